@@ -0,0 +1,174 @@
+package com.irfan.ecommerce.api.clients;
+
+import com.irfan.ecommerce.util.PropertyReader;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.ResponseSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * ApiClientRegistry: One initialized project per JVM, one shared client per type.
+ *
+ * 🚀 THE WALMART-SCALE "WHY":
+ * SITUATION: Every `new BookingClient()` / `new AuthClient()` / `new CartClient()`
+ *   re-ran the whole framework bootstrap: a blocking health-check GET, a fresh
+ *   RequestSpecification and a reassignment of the shared static response spec.
+ *   Field initializers in every test class and every UI BaseTest instance paid it.
+ * ACTION: The first client of a project prefix ("booker", "demoblaze") builds an
+ *   immutable ProjectContext (base URI, specs on the pooled transport, one health
+ *   check). Every later client of that prefix reuses it. Client instances hold no
+ *   per-call state, so get(type) hands one shared instance of each type to all threads.
+ * RESULT: The health check runs once per project per run, and the report shows the
+ *   initialization count and time so that stays visible.
+ */
+public final class ApiClientRegistry {
+    private static final Logger logger = LogManager.getLogger(ApiClientRegistry.class);
+    private static final long RESPONSE_SLA_MS = 5000L;
+
+    private static final Map<String, ProjectContext> contexts = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Object> clients = new ConcurrentHashMap<>();
+
+    // 📊 INITIALIZATION METRICS
+    private static final AtomicLong initializations = new AtomicLong();
+    private static final AtomicLong initNanos = new AtomicLong();
+    private static final AtomicLong lookups = new AtomicLong();
+
+    private ApiClientRegistry() {
+        throw new IllegalStateException("Utility class - instantiation is not allowed.");
+    }
+
+    /**
+     * The shared, fully initialized client of the given type (built on first use).
+     */
+    public static <T extends BaseApiClient> T get(Class<T> type) {
+        return shared(type);
+    }
+
+    /**
+     * The shared async client of the given type; it rides on the same project context.
+     */
+    public static <T extends AsyncBaseApiClient> T getAsync(Class<T> type) {
+        return shared(type);
+    }
+
+    private static <T> T shared(Class<T> type) {
+        lookups.incrementAndGet();
+        Object client = clients.get(type);
+        if (client == null) {
+            // Not computeIfAbsent: the constructor re-enters the registry for its project context
+            synchronized (clients) {
+                client = clients.get(type);
+                if (client == null) {
+                    client = instantiate(type);
+                    clients.put(type, client);
+                }
+            }
+        }
+        return type.cast(client);
+    }
+
+    /**
+     * The project's shared context, initialized (and health-checked) exactly once.
+     */
+    static ProjectContext context(String projectPrefix) {
+        ProjectContext context = contexts.get(projectPrefix);
+        if (context != null) {
+            return context;
+        }
+        synchronized (contexts) {
+            return contexts.computeIfAbsent(projectPrefix, ApiClientRegistry::initialize);
+        }
+    }
+
+    public static String getStats() {
+        StringBuilder perProject = new StringBuilder();
+        new TreeMap<>(contexts).forEach((prefix, ctx) ->
+                perProject.append(prefix).append('=').append(ctx.getInitMillis()).append("ms "));
+        return String.format("projects=%d initializations=%d initTime=%dms clients=%d lookups=%d [%s]",
+                contexts.size(), initializations.get(), TimeUnit.NANOSECONDS.toMillis(initNanos.get()),
+                clients.size(), lookups.get(), perProject.toString().trim());
+    }
+
+    private static ProjectContext initialize(String projectPrefix) {
+        long start = System.nanoTime();
+        String baseUri = PropertyReader.getProperty(projectPrefix + ".api.base.uri");
+
+        if (baseUri == null) {
+            throw new RuntimeException("🛑 CONFIG_ERROR: base.uri missing for project: " + projectPrefix);
+        }
+
+        // 🛡️ THE CIRCUIT BREAKER (Health Check)
+        // SITUATION: A 500-ing environment skips its own tests instead of killing the run.
+        CircuitBreaker breaker = CircuitBreaker.forProject(projectPrefix, baseUri);
+
+        // 🏗️ REQUEST SPECIFICATION
+        RequestSpecification requestSpec = new RequestSpecBuilder()
+                .setBaseUri(baseUri)
+                .setContentType(ContentType.JSON)
+                .setConfig(HttpTransport.configFor(projectPrefix, baseUri))
+                .build();
+
+        // ⚠️ RESPONSE SPECIFICATION (Global SLAs)
+        ResponseSpecification responseSpec = new ResponseSpecBuilder()
+                .expectResponseTime(lessThan(RESPONSE_SLA_MS))
+                .build();
+
+        long elapsed = System.nanoTime() - start;
+        initializations.incrementAndGet();
+        initNanos.addAndGet(elapsed);
+        logger.info("✅ {} INFRASTRUCTURE READY: {} (initialized once in {}ms)",
+                projectPrefix.toUpperCase(), baseUri, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return new ProjectContext(projectPrefix, baseUri, requestSpec, responseSpec, breaker,
+                TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    private static Object instantiate(Class<?> type) {
+        try {
+            return type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("🛑 REGISTRY_ERROR: " + type.getSimpleName()
+                    + " needs a public no-arg constructor.", e);
+        }
+    }
+
+    /**
+     * Everything a project's clients share. Immutable once built, so safe across threads.
+     */
+    public static final class ProjectContext {
+        private final String projectPrefix;
+        private final String baseUri;
+        private final RequestSpecification requestSpec;
+        private final ResponseSpecification responseSpec;
+        private final CircuitBreaker circuitBreaker;
+        private final long initMillis;
+
+        private ProjectContext(String projectPrefix, String baseUri, RequestSpecification requestSpec,
+                               ResponseSpecification responseSpec, CircuitBreaker circuitBreaker,
+                               long initMillis) {
+            this.projectPrefix = projectPrefix;
+            this.baseUri = baseUri;
+            this.requestSpec = requestSpec;
+            this.responseSpec = responseSpec;
+            this.circuitBreaker = circuitBreaker;
+            this.initMillis = initMillis;
+        }
+
+        public String getProjectPrefix() { return projectPrefix; }
+        public String getBaseUri() { return baseUri; }
+        public RequestSpecification getRequestSpec() { return requestSpec; }
+        public ResponseSpecification getResponseSpec() { return responseSpec; }
+        public CircuitBreaker getCircuitBreaker() { return circuitBreaker; }
+        public long getInitMillis() { return initMillis; }
+    }
+}
@@ -0,0 +1,174 @@
+package com.irfan.ecommerce.api.clients;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.irfan.ecommerce.util.PropertyReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AsyncBaseApiClient: The non-blocking sibling of BaseApiClient.
+ *
+ * 🚀 THE WALMART-SCALE "WHY":
+ * SITUATION: Every client method blocked its caller until RestAssured returned, so
+ *   any fan-out needed a hand-built executor with one thread parked per request
+ *   (see BookingConcurrencyTest).
+ * ACTION: This tier sends through java.net.http.HttpClient.sendAsync. Sockets are
+ *   multiplexed by the client's selector thread, and response handling runs on a
+ *   small fixed pool (http.async.threads). Each call returns a CompletableFuture of a
+ *   typed AsyncResponse. It reuses the project's ApiClientRegistry context, so the base
+ *   URI, SLA-derived timeouts and the circuit breaker match the blocking tier.
+ *   Cancelling a returned future, or letting it time out, aborts the HTTP exchange.
+ * RESULT: Thousands of booking calls can be in flight from one test thread. Combine
+ *   them with AsyncCombinators (bounded fan-out, deadlines, cancellation).
+ */
+public abstract class AsyncBaseApiClient {
+    protected static final Logger logger = LogManager.getLogger(AsyncBaseApiClient.class);
+    protected static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final int CALLBACK_THREADS = PropertyReader.getIntProperty("http.async.threads", 4);
+    private static final int READ_TIMEOUT_SLA_MULTIPLIER = PropertyReader.getIntProperty("http.read.timeout.sla.multiplier", 3);
+
+    private static final ExecutorService callbackPool = Executors.newFixedThreadPool(CALLBACK_THREADS, r -> {
+        Thread t = new Thread(r, "api-async");
+        t.setDaemon(true);
+        return t;
+    });
+    // One HttpClient (and therefore one connection pool) per project, shared by all async clients
+    private static final Map<String, HttpClient> httpClients = new ConcurrentHashMap<>();
+
+    // 📊 ASYNC METRICS
+    private static final AtomicLong sent = new AtomicLong();
+    private static final AtomicLong failed = new AtomicLong();
+    private static final AtomicLong cancelled = new AtomicLong();
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private final String projectPrefix;
+    private final String baseUri;
+    private final CircuitBreaker circuitBreaker;
+    private final HttpClient http;
+    private final Duration requestTimeout;
+
+    /**
+     * @param projectPrefix The key used in properties (e.g., "demoblaze" or "booker")
+     */
+    protected AsyncBaseApiClient(String projectPrefix) {
+        ApiClientRegistry.ProjectContext context = ApiClientRegistry.context(projectPrefix);
+        long slaMs = PropertyReader.getLongProperty(projectPrefix + ".api.sla.ms", 5000);
+        this.projectPrefix = projectPrefix;
+        this.baseUri = context.getBaseUri();
+        this.circuitBreaker = context.getCircuitBreaker();
+        this.requestTimeout = Duration.ofMillis(slaMs * READ_TIMEOUT_SLA_MULTIPLIER);
+        this.http = httpClients.computeIfAbsent(projectPrefix, p -> HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(slaMs))
+                .executor(callbackPool)
+                .build());
+    }
+
+    /**
+     * Sends one request without blocking.
+     *
+     * @param payload      serialized as JSON, or null for no body
+     * @param headers      extra headers (e.g. the booker auth cookie), may be empty
+     * @param responseType body type; Void.class for "don't parse", String.class for raw text
+     * @throws org.testng.SkipException synchronously when the project's circuit is open. Inside
+     *         a fan-out it fails that item's future instead: wait with AsyncCombinators.join()
+     *         so it still reaches TestNG as a skip.
+     */
+    protected <T> CompletableFuture<AsyncResponse<T>> send(String method, String path, Object payload,
+                                                          Map<String, String> headers, Class<T> responseType) {
+        circuitBreaker.ensureAvailable();
+        String requestId = UUID.randomUUID().toString();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUri + path))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .header("X-Request-ID", requestId)
+                .header("X-Project-Context", projectPrefix)
+                .method(method, payload == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(toJson(payload)));
+        headers.forEach(builder::header);
+
+        long start = System.nanoTime();
+        sent.incrementAndGet();
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        CompletableFuture<HttpResponse<String>> exchange =
+                http.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofString());
+        exchange.whenComplete((r, e) -> inFlight.decrementAndGet());
+
+        CompletableFuture<AsyncResponse<T>> result = exchange.thenApply(response -> {
+            int status = response.statusCode();
+            circuitBreaker.recordResponse(status, path);
+            if (status >= 400) {
+                logger.error("🚨 API FAILURE | {} {} | Status: {} | Correlation ID: {}", method, path, status, requestId);
+            }
+            return new AsyncResponse<>(status, parse(response.body(), status, responseType), response.body(),
+                    (System.nanoTime() - start) / 1_000_000, requestId);
+        });
+        // A cancelled or timed-out future must not leave its exchange running
+        result.whenComplete((r, e) -> {
+            if (e == null) {
+                return;
+            }
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof CancellationException || cause instanceof TimeoutException) {
+                cancelled.incrementAndGet();
+                exchange.cancel(true);
+            } else {
+                failed.incrementAndGet();
+            }
+        });
+        return result;
+    }
+
+    protected String getProperty(String keyTail) {
+        return PropertyReader.getProperty(projectPrefix + "." + keyTail);
+    }
+
+    public static String getStats() {
+        return String.format("sent=%d failed=%d cancelled=%d inFlight=%d peakInFlight=%d callbackThreads=%d",
+                sent.get(), failed.get(), cancelled.get(), inFlight.get(), peakInFlight.get(), CALLBACK_THREADS);
+    }
+
+    private static String toJson(Object payload) {
+        try {
+            return mapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("❌ SERIALIZATION_ERROR: " + payload.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static <T> T parse(String body, int status, Class<T> type) {
+        if (type == Void.class || status >= 400 || body == null || body.isBlank()) {
+            return null;
+        }
+        if (type == String.class) {
+            return type.cast(body);
+        }
+        try {
+            return mapper.readValue(body, type);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("❌ DESERIALIZATION_ERROR into " + type.getSimpleName(), e);
+        }
+    }
+}
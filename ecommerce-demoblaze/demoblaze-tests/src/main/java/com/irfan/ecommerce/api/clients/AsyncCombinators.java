@@ -0,0 +1,161 @@
+package com.irfan.ecommerce.api.clients;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * AsyncCombinators: Fan-out, deadlines and cancellation for the async client tier.
+ *
+ * THE WALMART HEADACHE I FIXED:
+ * - THE PROBLEM: CompletableFuture.allOf() gives back Void, keeps waiting after the
+ *   first failure, and a timeout or cancel on the combined future does not reach the
+ *   requests underneath.
+ * - WHAT I DID: These helpers keep results in input order, fail fast, and push a
+ *   timeout or cancellation down to every request that is still running. fanOut()
+ *   starts at most maxInFlight calls at a time.
+ * - THE RESULT: "Create 2,000 bookings, 50 at a time, give up after 60s" is one
+ *   expression, and a test that bails out leaves no requests in flight.
+ */
+public final class AsyncCombinators {
+
+    private AsyncCombinators() {
+        throw new IllegalStateException("Utility class - instantiation is not allowed.");
+    }
+
+    /**
+     * Runs call(item) for every item with at most maxInFlight running at once.
+     *
+     * @return one future per item, in input order. Cancelling a future that has not
+     *   started yet means its call never runs; cancelling a running one cancels the call.
+     */
+    public static <I, O> List<CompletableFuture<O>> fanOut(List<I> items, int maxInFlight,
+                                                          Function<? super I, CompletableFuture<O>> call) {
+        List<CompletableFuture<O>> slots = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            slots.add(new CompletableFuture<>());
+        }
+        AtomicInteger next = new AtomicInteger();
+        int lanes = Math.min(Math.max(1, maxInFlight), items.size());
+        for (int lane = 0; lane < lanes; lane++) {
+            startNext(items, slots, next, call);
+        }
+        return slots;
+    }
+
+    /**
+     * All results in input order. The first failure fails the whole thing and cancels
+     * the calls that are still pending.
+     */
+    public static <T> CompletableFuture<List<T>> allOf(List<CompletableFuture<T>> futures) {
+        CompletableFuture<List<T>> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(v -> {
+                    List<T> results = new ArrayList<>(futures.size());
+                    futures.forEach(f -> results.add(f.join()));
+                    return results;
+                });
+        futures.forEach(f -> f.whenComplete((v, e) -> {
+            if (e != null) {
+                all.completeExceptionally(unwrap(e));
+            }
+        }));
+        all.whenComplete((v, e) -> {
+            if (e != null) {
+                cancelAll(futures);
+            }
+        });
+        return all;
+    }
+
+    /**
+     * allOf() with an overall deadline. Whatever is still running when it expires is cancelled.
+     */
+    public static <T> CompletableFuture<List<T>> allOf(List<CompletableFuture<T>> futures, Duration deadline) {
+        return allOf(futures).orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Fails the future with a TimeoutException after the given duration. The async
+     * clients abort the underlying request when that happens.
+     */
+    public static <T> CompletableFuture<T> withTimeout(CompletableFuture<T> future, Duration timeout) {
+        return future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Waits for the future like join(), but rethrows the failure itself instead of a
+     * CompletionException wrapper. TestNG only skips a test on a top-level SkipException,
+     * so an open circuit inside a fan-out must surface unwrapped.
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Cancels every future that has not completed yet.
+     *
+     * @return how many were actually cancelled
+     */
+    public static int cancelAll(Collection<? extends CompletableFuture<?>> futures) {
+        int count = 0;
+        for (CompletableFuture<?> future : futures) {
+            if (future.cancel(true)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static <I, O> void startNext(List<I> items, List<CompletableFuture<O>> slots, AtomicInteger next,
+                                         Function<? super I, CompletableFuture<O>> call) {
+        int index;
+        while ((index = next.getAndIncrement()) < items.size()) {
+            CompletableFuture<O> slot = slots.get(index);
+            if (slot.isDone()) {
+                continue; // Cancelled before its turn came
+            }
+            CompletableFuture<O> running;
+            try {
+                running = call.apply(items.get(index));
+            } catch (RuntimeException e) {
+                slot.completeExceptionally(e);
+                continue;
+            }
+            slot.whenComplete((v, e) -> {
+                if (e != null) {
+                    running.cancel(true);
+                }
+            });
+            running.whenComplete((v, e) -> {
+                if (e != null) {
+                    slot.completeExceptionally(unwrap(e));
+                } else {
+                    slot.complete(v);
+                }
+                startNext(items, slots, next, call);
+            });
+            return;
+        }
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+}
@@ -0,0 +1,36 @@
+package com.irfan.ecommerce.api.clients;
+
+/**
+ * A completed async API call: status, the typed body (null when the body is empty or
+ * the call failed), the raw body as evidence, latency and the correlation id.
+ */
+public final class AsyncResponse<T> {
+    private final int statusCode;
+    private final T body;
+    private final String rawBody;
+    private final long elapsedMillis;
+    private final String requestId;
+
+    AsyncResponse(int statusCode, T body, String rawBody, long elapsedMillis, String requestId) {
+        this.statusCode = statusCode;
+        this.body = body;
+        this.rawBody = rawBody;
+        this.elapsedMillis = elapsedMillis;
+        this.requestId = requestId;
+    }
+
+    public int getStatusCode() { return statusCode; }
+    public T getBody() { return body; }
+    public String getRawBody() { return rawBody; }
+    public long getElapsedMillis() { return elapsedMillis; }
+    public String getRequestId() { return requestId; }
+
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d in %dms [%s]", statusCode, elapsedMillis, requestId);
+    }
+}
@@ -2,33 +2,47 @@ package com.irfan.ecommerce.api.clients;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.irfan.ecommerce.util.PropertyReader;
-import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
-import io.restassured.builder.ResponseSpecBuilder;
-import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import static io.restassured.RestAssured.baseURI;
-import static org.hamcrest.Matchers.lessThan;
 
 /**
  * BaseApiClient: The "Architectural Foundation" for Multi-Service Automation.
  * * 🚀 THE WALMART-SCALE "WHY":
  * Optimized for high-concurrency and environment resilience by utilizing 
  * a Context-Aware constructor instead of static lock-ins.
+ * Project bootstrap (health check + specs) lives in ApiClientRegistry and runs once
+ * per prefix; constructing a client only picks up the shared, immutable context.
  */
 public abstract class BaseApiClient {
     protected static final Logger logger = LogManager.getLogger(BaseApiClient.class);
-    protected RequestSpecification requestSpec; // Instance-based for Multi-Tenant support
-    protected static ResponseSpecification responseSpec;
+    protected final RequestSpecification requestSpec; // Instance-based for Multi-Tenant support
+    protected final ResponseSpecification responseSpec;
+    private final CircuitBreaker circuitBreaker;
     protected static final ObjectMapper mapper = new ObjectMapper();
     private final String projectPrefix;
+    // 🚦 BULK CONCURRENCY CAP: one fair semaphore per project, shared by every bulk call
+    private static final Map<String, Semaphore> concurrencyCaps = new ConcurrentHashMap<>();
+    private static final long MAX_RETRY_AFTER_MS = 10_000;
 
     /**
      * CONSTRUCTOR: Dynamic Project Initialization
@@ -36,46 +50,10 @@ public abstract class BaseApiClient {
      */
     public BaseApiClient(String projectPrefix) {
         this.projectPrefix = projectPrefix;
-        initializeFramework();
-    }
-
-    private void initializeFramework() {
-        String baseUri = PropertyReader.getProperty(projectPrefix + ".api.base.uri");
-        
-        if (baseUri == null) {
-            throw new RuntimeException("🛑 CONFIG_ERROR: base.uri missing for project: " + projectPrefix);
-        }
-
-        // 🛡️ THE CIRCUIT BREAKER (Health Check)
-        // SITUATION: Protects CI budget by killing the run if the environment is 500-ing.
-        performHealthCheck(baseUri);
-
-        // 🏗️ REQUEST SPECIFICATION
-        this.requestSpec = new RequestSpecBuilder()
-                .setBaseUri(baseUri)
-                .setContentType(ContentType.JSON)
-                .build();
-
-        // ⚠️ RESPONSE SPECIFICATION (Global SLAs)
-        responseSpec = new ResponseSpecBuilder()
-                .expectResponseTime(lessThan(5000L))
-                .build();
-
-        logger.info("✅ {} INFRASTRUCTURE READY: {}", projectPrefix.toUpperCase(), baseUri);
-    }
-
-    private void performHealthCheck(String baseUri) {
-        try {
-            logger.info("📡 CIRCUIT BREAKER: Checking health of {}...", projectPrefix);
-            int status = RestAssured.get(baseUri).getStatusCode();
-            if (status >= 500) {
-                logger.fatal("🛑 CIRCUIT BREAKER TRIGGERED: {} returned {}. Aborting run.", baseUri, status);
-                System.exit(1);
-            }
-        } catch (Exception e) {
-            logger.fatal("🚨 ENVIRONMENT UNREACHABLE: {} is down.", baseUri);
-            System.exit(1);
-        }
+        ApiClientRegistry.ProjectContext context = ApiClientRegistry.context(projectPrefix);
+        this.requestSpec = context.getRequestSpec();
+        this.responseSpec = context.getResponseSpec();
+        this.circuitBreaker = context.getCircuitBreaker();
     }
 
     /**
@@ -83,6 +61,7 @@ public abstract class BaseApiClient {
      */
     protected void handleApiFailure(Response response, String endpoint) {
         int statusCode = response.getStatusCode();
+        circuitBreaker.recordResponse(statusCode, endpoint);
         if (statusCode >= 400) {
             String requestId = response.getHeader("X-Request-ID");
             logger.error("🚨 API FAILURE | Endpoint: {} | Status: {}", endpoint, statusCode);
@@ -99,6 +78,8 @@ public abstract class BaseApiClient {
      * 🆔 getRequestSpec: The "Traceability Injector"
      */
     protected RequestSpecification getRequestSpec(String requestId) {
+        // 🛡️ Skips (never exits) when this project's circuit is open
+        circuitBreaker.ensureAvailable();
         return new RequestSpecBuilder()
                 .setBaseUri(baseURI)
                 .addHeader("Content-Type", "application/json")
@@ -122,6 +103,99 @@ protected String getProperty(String keyTail) {
     return PropertyReader.getProperty(projectPrefix + "." + keyTail);
 }
 
+    /**
+     * 📦 runBulk: The "Fixture Firehose"
+     * Runs call(input) for every input. Each call takes a token from the project's
+     * TokenBucketRateLimiter and a permit from its concurrency cap
+     * (<prefix>.api.max.concurrency). An item answered with HTTP 429 is retried once,
+     * after the server's Retry-After. Never throws per item: failures are recorded on
+     * the item so the caller sees every outcome.
+     *
+     * @param call      sends one request and returns the raw Response. It must not run
+     *                  handleApiFailure, which throws on 5xx before the item sees the
+     *                  status; runBulk feeds every status to the circuit breaker itself
+     * @param extractor turns a successful response into the item's value
+     */
+    protected <I, O> BulkResult<I, O> runBulk(String operation, List<I> inputs, Function<I, Response> call,
+                                              BiFunction<I, Response, O> extractor) {
+        circuitBreaker.ensureAvailable();
+        int cap = PropertyReader.getIntProperty(projectPrefix + ".api.max.concurrency", 8);
+        Semaphore permits = concurrencyCaps.computeIfAbsent(projectPrefix, p -> new Semaphore(cap, true));
+        TokenBucketRateLimiter limiter = TokenBucketRateLimiter.forProject(projectPrefix);
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, Math.min(cap, inputs.size())), r -> {
+            Thread t = new Thread(r, "bulk-" + projectPrefix);
+            t.setDaemon(true);
+            return t;
+        });
+
+        long start = System.nanoTime();
+        List<BulkResult.Item<I, O>> items = new ArrayList<>(inputs.size());
+        try {
+            List<Future<BulkResult.Item<I, O>>> pending = new ArrayList<>(inputs.size());
+            for (I input : inputs) {
+                pending.add(workers.submit(() -> runBulkItem(operation, input, call, extractor, permits, limiter)));
+            }
+            for (Future<BulkResult.Item<I, O>> future : pending) {
+                items.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("🛑 BULK_INTERRUPTED: " + operation, e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("🛑 BULK_FAILURE: " + operation, e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+
+        BulkResult<I, O> result = new BulkResult<>(operation, items,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        logger.info("📦 BULK {}", result);
+        return result;
+    }
+
+    private <I, O> BulkResult.Item<I, O> runBulkItem(String operation, I input, Function<I, Response> call,
+                                                     BiFunction<I, Response, O> extractor,
+                                                     Semaphore permits, TokenBucketRateLimiter limiter)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        permits.acquire();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                limiter.acquire();
+                int status = -1;
+                try {
+                    Response response = call.apply(input);
+                    status = response.getStatusCode();
+                    circuitBreaker.recordResponse(status, operation);
+                    if (status == 429 && attempt == 1) {
+                        long backoff = retryAfterMillis(response);
+                        logger.warn("⏳ BULK_THROTTLED: 429 from {}; retrying once in {}ms", projectPrefix, backoff);
+                        TimeUnit.MILLISECONDS.sleep(backoff);
+                        continue;
+                    }
+                    long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    if (status >= 200 && status < 300) {
+                        return new BulkResult.Item<>(input, status, extractor.apply(input, response), null, attempt, elapsed);
+                    }
+                    return new BulkResult.Item<>(input, status, null, "HTTP " + status, attempt, elapsed);
+                } catch (RuntimeException e) {
+                    return new BulkResult.Item<>(input, status, null, String.valueOf(e.getMessage()), attempt,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static long retryAfterMillis(Response response) {
+        try {
+            return Math.min(MAX_RETRY_AFTER_MS, Long.parseLong(response.getHeader("Retry-After").trim()) * 1000);
+        } catch (RuntimeException e) {
+            return 1000; // Missing or an HTTP-date: a fixed, short pause
+        }
+    }
+
     protected void logPayload(Object payload, String description) {
         try {
             String json = mapper.writerWithDefaultPrettyPrinter().writeValueAsString(payload);
@@ -0,0 +1,91 @@
+package com.irfan.ecommerce.api.clients;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The outcome of a bulk operation: one Item per input (same order) plus aggregate
+ * timing, so a test can assert on single items and on throughput.
+ */
+public final class BulkResult<I, O> {
+    private final String operation;
+    private final List<Item<I, O>> items;
+    private final long elapsedMillis;
+
+    BulkResult(String operation, List<Item<I, O>> items, long elapsedMillis) {
+        this.operation = operation;
+        this.items = Collections.unmodifiableList(items);
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public String getOperation() { return operation; }
+    public List<Item<I, O>> getItems() { return items; }
+    public long getElapsedMillis() { return elapsedMillis; }
+
+    public List<Item<I, O>> getSucceeded() {
+        return items.stream().filter(Item::isSuccessful).collect(Collectors.toList());
+    }
+
+    public List<Item<I, O>> getFailed() {
+        return items.stream().filter(i -> !i.isSuccessful()).collect(Collectors.toList());
+    }
+
+    /**
+     * Values of the successful items, in input order.
+     */
+    public List<O> getValues() {
+        return items.stream().filter(Item::isSuccessful).map(Item::getValue).collect(Collectors.toList());
+    }
+
+    public boolean isAllSuccessful() {
+        return items.stream().allMatch(Item::isSuccessful);
+    }
+
+    /**
+     * Successful operations per second of wall-clock time.
+     */
+    public double getThroughputPerSecond() {
+        return elapsedMillis == 0 ? 0 : getSucceeded().size() * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        long retried = items.stream().filter(i -> i.getAttempts() > 1).count();
+        return String.format("%s: %d/%d ok in %dms (%.1f ops/s, %d retried after 429)",
+                operation, getSucceeded().size(), items.size(), elapsedMillis, getThroughputPerSecond(), retried);
+    }
+
+    /**
+     * One input's result: final HTTP status (-1 when no response), the extracted value
+     * on success, the error otherwise, and how many attempts it took.
+     */
+    public static final class Item<I, O> {
+        private final I input;
+        private final int statusCode;
+        private final O value;
+        private final String error;
+        private final int attempts;
+        private final long elapsedMillis;
+
+        Item(I input, int statusCode, O value, String error, int attempts, long elapsedMillis) {
+            this.input = input;
+            this.statusCode = statusCode;
+            this.value = value;
+            this.error = error;
+            this.attempts = attempts;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public I getInput() { return input; }
+        public int getStatusCode() { return statusCode; }
+        public O getValue() { return value; }
+        public String getError() { return error; }
+        public int getAttempts() { return attempts; }
+        public long getElapsedMillis() { return elapsedMillis; }
+
+        public boolean isSuccessful() {
+            return error == null && statusCode >= 200 && statusCode < 300;
+        }
+    }
+}
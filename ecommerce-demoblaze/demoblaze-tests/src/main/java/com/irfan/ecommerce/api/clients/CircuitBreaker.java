@@ -0,0 +1,173 @@
+package com.irfan.ecommerce.api.clients;
+
+import com.irfan.ecommerce.util.PropertyReader;
+import io.restassured.RestAssured;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.SkipException;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * CircuitBreaker: Take one sick project out of the run without killing the run.
+ *
+ * 🚀 THE WALMART-SCALE "WHY":
+ * SITUATION: The health check called System.exit(1) on a 5xx or an unreachable host.
+ *   That killed the surefire fork mid-run and lost every ExtentReports result, even for
+ *   projects that were perfectly healthy.
+ * ACTION: Each project prefix gets a breaker with three states:
+ *   - CLOSED: requests flow. The health result is cached for api.health.ttl.ms and
+ *     refreshed in the background once stale, so no request waits on a probe.
+ *   - OPEN: a failed probe, or api.breaker.failure.threshold consecutive 5xx
+ *     responses, trips it. Requests throw SkipException with the reason at once.
+ *   - HALF_OPEN: after api.breaker.open.ms one caller probes again, which closes the
+ *     breaker or re-opens it.
+ * RESULT: Tests against a tripped project are skipped fast with a clear reason.
+ *   Tests against healthy projects keep running, and the report is always written.
+ */
+public final class CircuitBreaker {
+    private static final Logger logger = LogManager.getLogger(CircuitBreaker.class);
+
+    private static final long HEALTH_TTL_MS = PropertyReader.getLongProperty("api.health.ttl.ms", 30_000);
+    private static final long OPEN_MS = PropertyReader.getLongProperty("api.breaker.open.ms", 30_000);
+    private static final int FAILURE_THRESHOLD = PropertyReader.getIntProperty("api.breaker.failure.threshold", 3);
+
+    private static final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private static final ExecutorService refresher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "api-health-refresh");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String projectPrefix;
+    private final String baseUri;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile long checkedAt;
+    private volatile long openedAt;
+    private volatile String lastFailure;
+
+    // 📊 BREAKER METRICS
+    private final AtomicLong probes = new AtomicLong();
+    private final AtomicLong trips = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+
+    private CircuitBreaker(String projectPrefix, String baseUri) {
+        this.projectPrefix = projectPrefix;
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * The project's breaker, probed synchronously the first time it is created.
+     */
+    public static CircuitBreaker forProject(String projectPrefix, String baseUri) {
+        return breakers.computeIfAbsent(projectPrefix, prefix -> {
+            CircuitBreaker breaker = new CircuitBreaker(prefix, baseUri);
+            breaker.probe();
+            return breaker;
+        });
+    }
+
+    /**
+     * Gate in front of every request.
+     *
+     * @throws SkipException when the project's breaker is open
+     */
+    public void ensureAvailable() {
+        State current = state.get();
+        if (current == State.OPEN && System.currentTimeMillis() - openedAt >= OPEN_MS
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            // This caller is the half-open trial; everyone else keeps skipping until it answers
+            logger.info("🟡 CIRCUIT HALF_OPEN: Re-probing {}...", projectPrefix);
+            probe();
+            current = state.get();
+        }
+        if (current != State.CLOSED) {
+            skipped.incrementAndGet();
+            throw new SkipException(String.format("🛑 CIRCUIT_OPEN: %s is unhealthy (%s); skipping API call.",
+                    projectPrefix, lastFailure));
+        }
+        if (System.currentTimeMillis() - checkedAt > HEALTH_TTL_MS && refreshing.compareAndSet(false, true)) {
+            refresher.execute(() -> {
+                try {
+                    probe();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Feeds a real response into the breaker: consecutive 5xx responses trip it.
+     */
+    public void recordResponse(int statusCode, String endpoint) {
+        if (statusCode < 500) {
+            consecutiveFailures.set(0);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= FAILURE_THRESHOLD) {
+            trip(String.format("%d consecutive 5xx, last %d at %s", consecutiveFailures.get(), statusCode, endpoint));
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * One line per project: state, trips, probes and skipped calls.
+     */
+    public static String getSummary() {
+        if (breakers.isEmpty()) {
+            return "no projects";
+        }
+        return new TreeMap<>(breakers).values().stream()
+                .map(b -> String.format("%s=%s (trips=%d probes=%d skipped=%d)",
+                        b.projectPrefix, b.state.get(), b.trips.get(), b.probes.get(), b.skipped.get()))
+                .collect(Collectors.joining(" | "));
+    }
+
+    private void probe() {
+        probes.incrementAndGet();
+        String failure;
+        try {
+            logger.info("📡 CIRCUIT BREAKER: Checking health of {}...", projectPrefix);
+            int status = RestAssured.get(baseUri).getStatusCode();
+            failure = status >= 500 ? baseUri + " returned " + status : null;
+        } catch (Exception e) {
+            failure = baseUri + " unreachable: " + e.getMessage();
+        }
+        checkedAt = System.currentTimeMillis();
+        if (failure != null) {
+            trip(failure);
+        } else {
+            consecutiveFailures.set(0);
+            if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+                logger.info("🟢 CIRCUIT CLOSED: {} is healthy again.", projectPrefix);
+            }
+        }
+    }
+
+    private void trip(String reason) {
+        lastFailure = reason;
+        openedAt = System.currentTimeMillis();
+        if (state.getAndSet(State.OPEN) != State.OPEN) {
+            trips.incrementAndGet();
+            logger.error("🛑 CIRCUIT BREAKER TRIGGERED: {} ({}). Its API tests will be skipped for {}ms.",
+                    projectPrefix, reason, OPEN_MS);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.irfan.ecommerce.api.clients;
+
+import com.irfan.ecommerce.util.PropertyReader;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * HttpTransport: One keep-alive connection pool per base URI, shared by every client.
+ *
+ * THE WALMART HEADACHE I FIXED:
+ * - THE PROBLEM: RestAssured built a throwaway HttpClient per request and shut its
+ *   connection manager down afterwards, so every call paid TCP + TLS setup again.
+ *   Under BookingConcurrencyTest-style load that handshake was most of the latency.
+ * - WHAT I DID: Each base URI gets one PoolingClientConnectionManager whose shutdown()
+ *   is a no-op, so RestAssured's per-request cleanup can't close it. The factory still
+ *   hands RestAssured a fresh, cheap DefaultHttpClient per request (its params are
+ *   mutated per call, so sharing one instance across threads is unsafe), but every
+ *   client leases sockets from the shared pool. Connect/read timeouts come from
+ *   <project>.api.sla.ms, and idle sockets are evicted in the background.
+ * - THE RESULT: Warm connections are reused across tests and threads, and the report
+ *   shows leased / available / pending / created per pool to prove it.
+ */
+@SuppressWarnings("deprecation") // RestAssured 5 is built on the HttpClient 4.x classic API
+public final class HttpTransport {
+    private static final Logger logger = LogManager.getLogger(HttpTransport.class);
+
+    private static final boolean ENABLED = PropertyReader.getBooleanProperty("http.pool.enabled", true);
+    private static final int MAX_PER_ROUTE = PropertyReader.getIntProperty("http.pool.max.per.route", 20);
+    private static final int MAX_TOTAL = PropertyReader.getIntProperty("http.pool.max.total", 50);
+    private static final long IDLE_EVICT_MS = PropertyReader.getLongProperty("http.pool.idle.evict.ms", 30_000);
+    private static final long KEEPALIVE_MS = PropertyReader.getLongProperty("http.keepalive.ms", 30_000);
+    private static final int READ_TIMEOUT_SLA_MULTIPLIER = PropertyReader.getIntProperty("http.read.timeout.sla.multiplier", 3);
+
+    private static final Map<String, Pool> pools = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "http-idle-evictor");
+        t.setDaemon(true);
+        return t;
+    });
+
+    static {
+        long period = Math.max(1000, IDLE_EVICT_MS / 2);
+        evictor.scheduleAtFixedRate(() -> pools.values().forEach(Pool::evictIdle), period, period, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> pools.values().forEach(p -> p.manager.close())));
+    }
+
+    private HttpTransport() {
+        throw new IllegalStateException("Utility class - instantiation is not allowed.");
+    }
+
+    /**
+     * RestAssured config whose requests lease connections from the base URI's shared pool.
+     * Returns the stock config when pooling is disabled (-Dhttp.pool.enabled=false).
+     */
+    public static RestAssuredConfig configFor(String projectPrefix, String baseUri) {
+        if (!ENABLED) {
+            return RestAssuredConfig.config();
+        }
+        Pool pool = pools.computeIfAbsent(baseUri, uri -> new Pool(projectPrefix));
+        return RestAssuredConfig.config().httpClient(
+                HttpClientConfig.httpClientConfig().httpClientFactory(pool::newClient));
+    }
+
+    /**
+     * Per pool: leased, available, pending (waiting for a socket), max and sockets opened.
+     */
+    public static String getStats() {
+        if (pools.isEmpty()) {
+            return ENABLED ? "no pools" : "disabled";
+        }
+        return new TreeMap<>(pools).entrySet().stream()
+                .map(e -> {
+                    PoolStats s = e.getValue().manager.getTotalStats();
+                    return String.format("%s leased=%d available=%d pending=%d max=%d created=%d",
+                            e.getKey(), s.getLeased(), s.getAvailable(), s.getPending(), s.getMax(),
+                            e.getValue().manager.created.get());
+                })
+                .collect(Collectors.joining(" | "));
+    }
+
+    private static final class Pool {
+        private final SharedConnectionManager manager;
+        private final int connectTimeoutMs;
+        private final int readTimeoutMs;
+
+        private Pool(String projectPrefix) {
+            int slaMs = PropertyReader.getIntProperty(projectPrefix + ".api.sla.ms", 5000);
+            this.connectTimeoutMs = slaMs;
+            this.readTimeoutMs = slaMs * READ_TIMEOUT_SLA_MULTIPLIER;
+            this.manager = new SharedConnectionManager(SchemeRegistryFactory.createDefault());
+            manager.setMaxTotal(MAX_TOTAL);
+            manager.setDefaultMaxPerRoute(MAX_PER_ROUTE);
+            logger.info("🔌 HTTP_POOL: [{}] maxPerRoute={} connect={}ms read={}ms keepAlive={}ms",
+                    projectPrefix, MAX_PER_ROUTE, connectTimeoutMs, readTimeoutMs, KEEPALIVE_MS);
+        }
+
+        /**
+         * A fresh client per request; only the connection manager is shared.
+         */
+        private DefaultHttpClient newClient() {
+            HttpParams params = new BasicHttpParams();
+            HttpConnectionParams.setConnectionTimeout(params, connectTimeoutMs);
+            HttpConnectionParams.setSoTimeout(params, readTimeoutMs);
+            DefaultHttpClient client = new DefaultHttpClient(manager, params);
+            client.setKeepAliveStrategy((response, context) -> {
+                long serverHint = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return serverHint > 0 ? Math.min(serverHint, KEEPALIVE_MS) : KEEPALIVE_MS;
+            });
+            return client;
+        }
+
+        private void evictIdle() {
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(IDLE_EVICT_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Pooling manager that survives RestAssured's per-request shutdown() and counts
+     * the sockets it actually opens.
+     */
+    private static final class SharedConnectionManager extends PoolingClientConnectionManager {
+        // Assigned from createConnectionOperator(), which runs inside the super constructor
+        private AtomicLong created;
+
+        private SharedConnectionManager(SchemeRegistry schemes) {
+            super(schemes);
+        }
+
+        @Override
+        protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemes) {
+            AtomicLong counter = new AtomicLong();
+            created = counter;
+            return new DefaultClientConnectionOperator(schemes) {
+                @Override
+                public void openConnection(OperatedClientConnection conn, HttpHost target, InetAddress local,
+                                           HttpContext context, HttpParams params) throws IOException {
+                    super.openConnection(conn, target, local, context, params);
+                    counter.incrementAndGet();
+                }
+            };
+        }
+
+        @Override
+        public void shutdown() {
+            // Shared across requests: RestAssured calls this after each one
+        }
+
+        private void close() {
+            super.shutdown();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.irfan.ecommerce.api.clients;
+
+import com.irfan.ecommerce.util.PropertyReader;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * TokenBucketRateLimiter: Go exactly as fast as the project's rate limit allows.
+ *
+ * 🚀 THE WALMART-SCALE "WHY":
+ * SITUATION: Fixture setup was either one blocking call at a time or a hard-coded
+ *   thread count (BookingConcurrencyTest's 20) picked by trial and error to dodge 429s.
+ * ACTION: One bucket per project prefix. It holds up to <prefix>.api.rate.limit.burst
+ *   tokens and refills at <prefix>.api.rate.limit.per.second. acquire() takes a token.
+ *   When the bucket is empty it reserves the next one and sleeps only until that token
+ *   is due, outside the lock, so waiting callers are served in order.
+ * RESULT: Bulk operations run at the configured sustained rate after an initial burst,
+ *   whatever the thread count, and the report shows how long callers were throttled.
+ */
+public final class TokenBucketRateLimiter {
+    private static final Map<String, TokenBucketRateLimiter> limiters = new ConcurrentHashMap<>();
+
+    private final String projectPrefix;
+    private final double permitsPerNano;
+    private final double burst;
+    private double tokens;
+    private long refilledAt = System.nanoTime();
+
+    // 📊 LIMITER METRICS
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong waitedNanos = new AtomicLong();
+
+    private TokenBucketRateLimiter(String projectPrefix, double permitsPerSecond, double burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("🛑 CONFIG_ERROR: rate limit for " + projectPrefix
+                    + " needs rate > 0 and burst >= 1");
+        }
+        this.projectPrefix = projectPrefix;
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.tokens = burst;
+    }
+
+    /**
+     * The project's shared bucket, configured from <prefix>.api.rate.limit.*.
+     */
+    public static TokenBucketRateLimiter forProject(String projectPrefix) {
+        return limiters.computeIfAbsent(projectPrefix, prefix -> {
+            double rate = Double.parseDouble(PropertyReader.getProperty(prefix + ".api.rate.limit.per.second", "10"));
+            double burst = Double.parseDouble(PropertyReader.getProperty(prefix + ".api.rate.limit.burst",
+                    String.valueOf(Math.max(1, rate))));
+            return new TokenBucketRateLimiter(prefix, rate, burst);
+        });
+    }
+
+    /**
+     * Blocks until the caller may send one request.
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            tokens -= 1; // Below zero = a reservation on a future token
+            waitNanos = tokens >= 0 ? 0 : (long) (-tokens / permitsPerNano);
+        }
+        acquired.incrementAndGet();
+        if (waitNanos > 0) {
+            throttled.incrementAndGet();
+            waitedNanos.addAndGet(waitNanos);
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    public String getStats() {
+        return String.format("%s rate=%.1f/s burst=%.0f acquired=%d throttled=%d waited=%dms",
+                projectPrefix, permitsPerNano * TimeUnit.SECONDS.toNanos(1), burst, acquired.get(),
+                throttled.get(), TimeUnit.NANOSECONDS.toMillis(waitedNanos.get()));
+    }
+
+    public static String getSummary() {
+        if (limiters.isEmpty()) {
+            return "no limiters";
+        }
+        return new TreeMap<>(limiters).values().stream()
+                .map(TokenBucketRateLimiter::getStats)
+                .collect(Collectors.joining(" | "));
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - refilledAt) * permitsPerNano);
+        refilledAt = now;
+    }
+}
@@ -3,6 +3,11 @@ package com.irfan.ecommerce.api.clients.demoblaze;
 import com.irfan.ecommerce.api.clients.BaseApiClient;
 import com.irfan.ecommerce.api.payloads.demoblaze.*;
 import io.restassured.response.Response;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 import static io.restassured.RestAssured.given;
 
 /**
@@ -15,7 +20,12 @@ public class CartClient extends BaseApiClient {
         super("demoblaze"); // THE FIX: Bridges the child to the parent
     }
 
-    public void addToCart(String productId, String token) {
+    /**
+     * Adds one unit of the catalog product to the token owner's cart.
+     *
+     * @return the new cart entry id (what /deleteitem expects)
+     */
+    public String addToCart(String productId, String token) {
         // 1. Fetch endpoint from config.properties (mapped via prefix in BaseApiClient)
         String endpoint = getProperty("api.endpoint.addtocart");
 
@@ -26,7 +36,8 @@ public class CartClient extends BaseApiClient {
         }
 
         // 3. PAYLOAD CONSTRUCTION
-        AddToCartRequest payload = new AddToCartRequest(productId, token, true);
+        String entryId = UUID.randomUUID().toString();
+        AddToCartRequest payload = new AddToCartRequest(entryId, token, Integer.valueOf(productId), true);
 
         logger.info("🛒 API_INJECTION: Adding Product ID [{}] to cart...", productId);
 
@@ -41,5 +52,31 @@ public class CartClient extends BaseApiClient {
         handleApiFailure(response, endpoint);
         
         logger.info("✅ API_SUCCESS: Product [{}] successfully injected into session.", productId);
+        return entryId;
+    }
+
+    /**
+     * Cart entry ids currently in the token owner's cart.
+     */
+    public List<String> viewCart(String token) {
+        String endpoint = getProperty("api.endpoint.viewcart");
+        Response response = given()
+                .spec(getRequestSpec())
+                .body(Map.of("cookie", token, "flag", true))
+                .when()
+                .post(endpoint);
+        handleApiFailure(response, endpoint);
+        List<String> entryIds = response.jsonPath().getList("Items.id", String.class);
+        return entryIds == null ? List.of() : entryIds;
+    }
+
+    public void deleteItem(String entryId) {
+        String endpoint = getProperty("api.endpoint.deleteitem");
+        Response response = given()
+                .spec(getRequestSpec())
+                .body(Map.of("id", entryId))
+                .when()
+                .post(endpoint);
+        handleApiFailure(response, endpoint);
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.irfan.ecommerce.api.clients.demoblaze;
+
+import com.irfan.ecommerce.api.clients.BaseApiClient;
+import com.irfan.ecommerce.api.payloads.demoblaze.CatalogEntry;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * CatalogClient: Read-only access to the DemoBlaze product catalog.
+ * The storefront pages it: /entries returns the first page plus a LastEvaluatedKey,
+ * and /pagination continues from that key until none is returned.
+ */
+public class CatalogClient extends BaseApiClient {
+
+    public CatalogClient() {
+        super("demoblaze");
+    }
+
+    public List<CatalogEntry> getAllEntries() {
+        String entriesEndpoint = getProperty("api.endpoint.entries");
+        String paginationEndpoint = getProperty("api.endpoint.pagination");
+
+        Response response = given().spec(getRequestSpec()).when().get(entriesEndpoint);
+        handleApiFailure(response, entriesEndpoint);
+        List<CatalogEntry> entries = new ArrayList<>(response.jsonPath().getList("Items", CatalogEntry.class));
+
+        String lastKey = response.jsonPath().getString("LastEvaluatedKey.id");
+        while (lastKey != null) {
+            response = given().spec(getRequestSpec()).body(Map.of("id", lastKey)).when().post(paginationEndpoint);
+            handleApiFailure(response, paginationEndpoint);
+            List<CatalogEntry> page = response.jsonPath().getList("Items", CatalogEntry.class);
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            entries.addAll(page);
+            lastKey = response.jsonPath().getString("LastEvaluatedKey.id");
+        }
+
+        logger.info("📚 CATALOG: {} products loaded from {}.", entries.size(), entriesEndpoint);
+        return entries;
+    }
+}
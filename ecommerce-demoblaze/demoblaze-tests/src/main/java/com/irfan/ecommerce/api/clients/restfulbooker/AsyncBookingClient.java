@@ -0,0 +1,44 @@
+package com.irfan.ecommerce.api.clients.restfulbooker;
+
+import com.irfan.ecommerce.api.clients.AsyncBaseApiClient;
+import com.irfan.ecommerce.api.clients.AsyncResponse;
+import com.irfan.ecommerce.api.payloads.restfulbooker.BookingRequest;
+import com.irfan.ecommerce.api.payloads.restfulbooker.BookingResponse;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AsyncBookingClient: BookingClient's CRUD calls as CompletableFutures of typed
+ * responses, for fan-out without a thread per request. Pair with AsyncCombinators.
+ */
+public class AsyncBookingClient extends AsyncBaseApiClient {
+
+    public AsyncBookingClient() {
+        super("booker");
+    }
+
+    public CompletableFuture<AsyncResponse<BookingResponse>> createBooking(BookingRequest payload) {
+        return send("POST", getProperty("api.endpoint.booking"), payload, Map.of(), BookingResponse.class);
+    }
+
+    public CompletableFuture<AsyncResponse<BookingRequest>> getBooking(int bookingId) {
+        return send("GET", getProperty("api.endpoint.booking") + "/" + bookingId, null, Map.of(),
+                BookingRequest.class);
+    }
+
+    public CompletableFuture<AsyncResponse<BookingRequest>> updateBooking(BookingRequest payload, int bookingId,
+                                                                         String token) {
+        return send("PUT", getProperty("api.endpoint.booking") + "/" + bookingId, payload,
+                authCookie(token), BookingRequest.class);
+    }
+
+    public CompletableFuture<AsyncResponse<Void>> deleteBooking(int bookingId, String token) {
+        return send("DELETE", getProperty("api.endpoint.booking") + "/" + bookingId, null,
+                authCookie(token), Void.class);
+    }
+
+    private static Map<String, String> authCookie(String token) {
+        return Map.of("Cookie", "token=" + token); // Booker uses Cookies for Auth
+    }
+}
@@ -1,8 +1,14 @@
 package com.irfan.ecommerce.api.clients.restfulbooker;
 
 import com.irfan.ecommerce.api.clients.BaseApiClient;
+import com.irfan.ecommerce.api.clients.BulkResult;
 import com.irfan.ecommerce.api.payloads.restfulbooker.BookingRequest;
 import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import static io.restassured.RestAssured.given;
 
 /**
@@ -28,12 +34,7 @@ public class BookingClient extends BaseApiClient {
         logger.info("📡 API_REQUEST [POST]: Creating new booking at {}", endpoint);
         logPayload(payload, "New Booking Request");
 
-        Response response = given()
-                .spec(getRequestSpec())
-                .body(payload)
-            .when()
-                .post(endpoint);
-
+        Response response = sendCreate(payload);
         handleApiFailure(response, endpoint);
         return response;
     }
@@ -57,13 +58,56 @@ public class BookingClient extends BaseApiClient {
         
         logger.warn("🗑️ API_REQUEST [DELETE]: Removing ID: {}", bookingId);
 
-        Response response = given()
+        Response response = sendDelete(bookingId, token);
+        handleApiFailure(response, endpoint);
+        return response;
+    }
+
+    /**
+     * Creates every booking, rate-limited and capped per project.
+     *
+     * @return per-item results whose values are the new booking ids
+     */
+    public BulkResult<BookingRequest, Integer> createAll(List<BookingRequest> payloads) {
+        return runBulk("createAll", payloads, this::sendCreate,
+                (payload, response) -> response.jsonPath().getInt("bookingid"));
+    }
+
+    /**
+     * Replaces each booking (id -> new state) with a PUT.
+     *
+     * @return per-item results whose values are the updated booking ids
+     */
+    public BulkResult<Map.Entry<Integer, BookingRequest>, Integer> updateAll(Map<Integer, BookingRequest> updates,
+                                                                             String token) {
+        return runBulk("updateAll", new ArrayList<>(updates.entrySet()),
+                entry -> updateBooking(entry.getValue(), entry.getKey(), token),
+                (entry, response) -> entry.getKey());
+    }
+
+    /**
+     * Deletes every booking id.
+     *
+     * @return per-item results whose values are the deleted booking ids
+     */
+    public BulkResult<Integer, Integer> deleteAll(List<Integer> bookingIds, String token) {
+        return runBulk("deleteAll", bookingIds, id -> sendDelete(id, token), (id, response) -> id);
+    }
+
+    // Raw sends: no handleApiFailure, so bulk items keep the real status of a 5xx
+    private Response sendCreate(BookingRequest payload) {
+        return given()
                 .spec(getRequestSpec())
-                .header("Cookie", "token=" + token) // Booker requires Token in a Cookie
+                .body(payload)
             .when()
-                .delete(endpoint);
+                .post(getProperty("api.endpoint.booking"));
+    }
 
-        handleApiFailure(response, endpoint);
-        return response;
+    private Response sendDelete(int bookingId, String token) {
+        return given()
+                .spec(getRequestSpec())
+                .header("Cookie", "token=" + token) // Booker requires Token in a Cookie
+            .when()
+                .delete(getProperty("api.endpoint.booking") + "/" + bookingId);
     }
-}
\ No newline at end of file
+}
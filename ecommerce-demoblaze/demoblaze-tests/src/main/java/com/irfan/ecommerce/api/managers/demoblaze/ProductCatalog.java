@@ -0,0 +1,33 @@
+package com.irfan.ecommerce.api.managers.demoblaze;
+
+import com.irfan.ecommerce.api.clients.ApiClientRegistry;
+import com.irfan.ecommerce.api.clients.demoblaze.CatalogClient;
+import com.irfan.ecommerce.api.payloads.demoblaze.CatalogEntry;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public class ProductCatalog {
+    private static Map<String, Integer> idsByName;
+
+    /**
+     * THE WALMART RESUME REF: "Cut navigation steps per UI test from 4 to 1 with
+     * a deep-link product index."
+     * The name -> id index is built from the catalog API on first use and kept for the run.
+     */
+    public static synchronized int idOf(String productName) {
+        if (idsByName == null) {
+            Map<String, Integer> index = new HashMap<>();
+            for (CatalogEntry entry : ApiClientRegistry.get(CatalogClient.class).getAllEntries()) {
+                index.put(entry.getTitle().trim().toLowerCase(Locale.ROOT), entry.getId());
+            }
+            idsByName = index;
+        }
+        Integer id = idsByName.get(productName.trim().toLowerCase(Locale.ROOT));
+        if (id == null) {
+            throw new IllegalArgumentException("🛑 CATALOG: No product named [" + productName + "] in the DemoBlaze catalog.");
+        }
+        return id;
+    }
+}
@@ -1,10 +1,11 @@
 package com.irfan.ecommerce.api.managers.restfulbooker;
 
+import com.irfan.ecommerce.api.clients.ApiClientRegistry;
 import com.irfan.ecommerce.api.clients.restfulbooker.AuthClient;
 
 public class AuthManager {
     private static String token;
-    private static final AuthClient authClient = new AuthClient();
+    private static final AuthClient authClient = ApiClientRegistry.get(AuthClient.class);
 
     public static synchronized String getToken() {
         if (token == null) {
@@ -1,10 +1,13 @@
 package com.irfan.ecommerce.api.payloads.demoblaze;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 public class AddToCartRequest {
     @JsonProperty("id") private String id;
     @JsonProperty("cookie") private String cookie;
+    // DemoBlaze: 'id' is the cart ENTRY id (a fresh UUID per line), 'prod_id' is the catalog product
+    @JsonProperty("prod_id") @JsonInclude(JsonInclude.Include.NON_NULL) private Integer prodId;
     @JsonProperty("flag") private boolean flag;
 
     public AddToCartRequest() {}
@@ -14,8 +17,14 @@ public class AddToCartRequest {
         this.cookie = cookie;
         this.flag = flag;
     }
+
+    public AddToCartRequest(String id, String cookie, Integer prodId, boolean flag) {
+        this(id, cookie, flag);
+        this.prodId = prodId;
+    }
     // Standard Getters
     public String getId() { return id; }
     public String getCookie() { return cookie; }
+    public Integer getProdId() { return prodId; }
     public boolean isFlag() { return flag; }
 }
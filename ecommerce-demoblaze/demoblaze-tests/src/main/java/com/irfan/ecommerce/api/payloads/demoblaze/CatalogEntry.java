@@ -0,0 +1,22 @@
+package com.irfan.ecommerce.api.payloads.demoblaze;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * One product from DemoBlaze's /entries and /pagination catalog endpoints.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CatalogEntry {
+    @JsonProperty("id") private int id;
+    @JsonProperty("title") private String title;
+    @JsonProperty("price") private double price;
+    @JsonProperty("cat") private String category;
+
+    public CatalogEntry() {} // Jackson needs this
+
+    public int getId() { return id; }
+    public String getTitle() { return title; }
+    public double getPrice() { return price; }
+    public String getCategory() { return category; }
+}
@@ -0,0 +1,18 @@
+package com.irfan.ecommerce.api.payloads.restfulbooker;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Restful-Booker's answer to POST /booking: the new id plus the booking as stored.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BookingResponse {
+    @JsonProperty("bookingid") private int bookingId;
+    @JsonProperty("booking") private BookingRequest booking;
+
+    public BookingResponse() {} // Jackson needs this
+
+    public int getBookingId() { return bookingId; }
+    public BookingRequest getBooking() { return booking; }
+}
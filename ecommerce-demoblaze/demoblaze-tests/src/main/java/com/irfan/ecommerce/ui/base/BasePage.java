@@ -1,28 +1,111 @@
 package com.irfan.ecommerce.ui.base;
 
+import com.irfan.ecommerce.util.DomWaitEngine;
 import com.irfan.ecommerce.util.GenericActions;
+import com.irfan.ecommerce.util.PagePerformanceMonitor;
+import com.irfan.ecommerce.util.PropertyReader;
+import com.irfan.ecommerce.util.ScriptRegistry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 public abstract class BasePage {
+    private static final Logger snapshotLog = LogManager.getLogger(BasePage.class);
+
+    /**
+     * Reads every row matching arguments[0] and, per row, every cell selector in arguments[1].
+     * A selector may end in '@attr' to read an attribute instead of the visible text;
+     * an empty selector reads the row element itself.
+     */
+    private static final String SNAPSHOT_JS =
+            "var rows = document.querySelectorAll(arguments[0]), cells = arguments[1], out = [];"
+            + "for (var i = 0; i < rows.length; i++) {"
+            + "  var row = [];"
+            + "  for (var j = 0; j < cells.length; j++) {"
+            + "    var sel = cells[j], attr = null, at = sel.lastIndexOf('@');"
+            + "    if (at >= 0) { attr = sel.substring(at + 1); sel = sel.substring(0, at); }"
+            + "    var el = sel ? rows[i].querySelector(sel) : rows[i];"
+            + "    row.push(!el ? null : attr ? el.getAttribute(attr) : (el.innerText || el.textContent || '').trim());"
+            + "  }"
+            + "  out.push(row);"
+            + "}"
+            + "return out;";
+
+    private static final Duration PAGE_TIMEOUT = Duration.ofSeconds(10);
+
+    // 📊 FORM METRICS
+    private static final AtomicLong formFills = new AtomicLong();
+    private static final AtomicLong formRoundTrips = new AtomicLong();
+    private static final AtomicLong formActionsFallbacks = new AtomicLong();
+
     protected WebDriver driver;
     protected WebDriverWait wait;
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.wait = new WebDriverWait(driver, PAGE_TIMEOUT);
+    }
+
+    /**
+     * Site root from the 'url' property, without a trailing slash.
+     */
+    protected String getBaseUrl() {
+        String baseUrl = PropertyReader.getProperty("url", "https://www.demoblaze.com");
+        return baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    /**
+     * 🔗 DEEP LINK: Lands on a page in one navigation (e.g. "cart.html") instead of
+     * clicking through the home page to reach it.
+     */
+    protected void openPath(String path) {
+        String url = getBaseUrl() + "/" + path;
+        driver.get(url);
+        GenericActions.waitForPageToLoad();
+        snapshotLog.info("🔗 DEEP_LINK: Opened {}", url);
+        PagePerformanceMonitor.capture(driver, getClass().getSimpleName());
+    }
+
+    /**
+     * ⏱️ CLICKED NAVIGATION: Call after a click that leaves previousUrl. Waits for the
+     * new document to finish loading, then samples it as the given page, so clicked
+     * transitions are measured like deep links.
+     */
+    protected void captureNavigationFrom(String previousUrl, String page) {
+        try {
+            wait.until(d -> !previousUrl.equals(d.getCurrentUrl()));
+        } catch (TimeoutException e) {
+            snapshotLog.warn("⚠️ PAGE_PERF: Still on {} after the click; [{}] not sampled.", previousUrl, page);
+            return;
+        }
+        GenericActions.waitForPageToLoad();
+        PagePerformanceMonitor.capture(driver, page);
     }
 
     /**
      * 🛡️ SELF-HEALING WAIT: This handles the String[] arrays from ObjectRepo.
-     * It uses your GenericActions logic to find the 'Best' working locator.
+     * All locators are watched at once by the event-driven DomWaitEngine, so the
+     * wait returns on the DOM change itself rather than on the next 500ms poll.
      */
     protected void waitForVisibilityOfElement(String[] locatorArray, String... replacements) {
-        By bestBy = GenericActions.getBestLocator(locatorArray, replacements);
-        wait.until(ExpectedConditions.visibilityOfElementLocated(bestBy));
+        DomWaitEngine.await(driver, DomWaitEngine.Condition.VISIBLE, null, PAGE_TIMEOUT.toMillis(),
+                locatorArray, replacements);
     }
 
     /**
@@ -33,4 +116,122 @@ public abstract class BasePage {
         // ✅ FIX: Use 'locator' (the variable name you defined)
         wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
     }
+
+    /**
+     * 📸 BATCH DOM SNAPSHOT: A whole table or list as typed rows in ONE round trip.
+     *
+     * SITUATION: Reading an N-row table cell by cell cost 2N+1 WebDriver calls, so big
+     *   carts and product grids were the slowest assertions in the suite.
+     * ACTION: One script pulls every row and cell as plain strings; the caller's
+     *   RowMapper turns each row into a typed object on the Java side.
+     * RESULT: Table assertions cost the same whether the cart holds 1 item or 100.
+     *
+     * Waits (up to the page timeout) for at least one row, since DemoBlaze fills its
+     * tables asynchronously. Returns an empty list if none ever appear.
+     */
+    protected <T> List<T> snapshotRows(String rowCss, RowMapper<T> mapper, String... cellSelectors) {
+        return snapshotRows(rowCss, 1, mapper, cellSelectors);
+    }
+
+    /**
+     * Same, but waits for at least minRows rows: DemoBlaze appends rows one XHR at a
+     * time, so "one row is there" does not mean the table is complete. Returns whatever
+     * rows exist if minRows never appear, so the caller's assertion shows the real count.
+     */
+    protected <T> List<T> snapshotRows(String rowCss, int minRows, RowMapper<T> mapper, String... cellSelectors) {
+        List<String> cells = Arrays.asList(cellSelectors);
+        List<List<String>> raw;
+        try {
+            raw = wait.until(d -> {
+                List<List<String>> rows = readRows(d, rowCss, cells);
+                return rows.size() < Math.max(1, minRows) ? null : rows;
+            });
+        } catch (TimeoutException e) {
+            raw = readRows(driver, rowCss, cells);
+            snapshotLog.warn("⚠️ SNAPSHOT: [{}] had {} of {} expected rows at the page timeout.",
+                    rowCss, raw.size(), minRows);
+            if (raw.isEmpty()) {
+                return Collections.emptyList();
+            }
+        }
+
+        List<T> mapped = new ArrayList<>(raw.size());
+        for (List<String> row : raw) {
+            mapped.add(mapper.map(row));
+        }
+        snapshotLog.info("📸 SNAPSHOT: [{}] -> {} rows x {} cells in one round trip.", rowCss, mapped.size(), cells.size());
+        return mapped;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<List<String>> readRows(WebDriver driver, String rowCss, List<String> cells) {
+        Object result = ((JavascriptExecutor) driver).executeScript(SNAPSHOT_JS, rowCss, cells);
+        return result == null ? Collections.emptyList() : (List<List<String>>) result;
+    }
+
+    /**
+     * 📝 BATCHED FORM FILL: Every field plus the submit click in ONE round trip.
+     *
+     * SITUATION: A login was wait + click + find + clear + type per field, then the
+     *   submit click: about 15 WebDriver calls before the alert could even appear.
+     * ACTION: One pinned script waits for all fields, sets each value through the native
+     *   setter with input/change events (what a real keystroke would trigger) and clicks
+     *   submit. If the script fails to run (a JavascriptException, always before submit),
+     *   one W3C Actions chain does the typing instead. Any other failure propagates:
+     *   the form may already be submitted and must not be submitted twice.
+     * RESULT: The round trips of each attempt are logged and rolled into the suite stats.
+     *
+     * @param fields ObjectRepo locators -> value, filled in insertion order
+     * @param submit what to click afterwards, or null to only fill
+     * @return WebDriver round trips the fill took
+     */
+    protected int fillForm(LinkedHashMap<String[], String> fields, String[] submit) {
+        int trips;
+        String failure;
+        try {
+            failure = ScriptRegistry.fillForm(driver, fields, submit, PAGE_TIMEOUT.toMillis());
+            trips = ScriptRegistry.lastRoundTrips();
+        } catch (JavascriptException e) {
+            snapshotLog.debug("Form script failed before submit ({}), typing through Actions.", e.getMessage());
+            formActionsFallbacks.incrementAndGet();
+            trips = fillWithActions(fields, submit);
+            failure = null;
+        }
+        if (failure != null) {
+            throw new RuntimeException("Input Error: FillForm (" + failure + ")");
+        }
+
+        // Per-field await + clear + sendKeys, then await + click for submit
+        int legacyTrips = 3 * fields.size() + (submit == null ? 0 : 2);
+        formFills.incrementAndGet();
+        formRoundTrips.addAndGet(trips);
+        snapshotLog.info("📝 FORM_FILL: {} field(s){} in {} round trip(s) (field-by-field: ~{}).",
+                fields.size(), submit == null ? "" : " + submit", trips, legacyTrips);
+        return trips;
+    }
+
+    private int fillWithActions(Map<String[], String> fields, String[] submit) {
+        int trips = 0;
+        Actions actions = new Actions(driver);
+        for (Map.Entry<String[], String> field : fields.entrySet()) {
+            WebElement el = DomWaitEngine.await(driver, DomWaitEngine.Condition.VISIBLE, null,
+                    PAGE_TIMEOUT.toMillis(), field.getKey());
+            el.clear(); // Platform-neutral, unlike a Ctrl+A chord (Cmd+A on macOS)
+            trips += 2;
+            actions.click(el).sendKeys(field.getValue());
+        }
+        if (submit != null) {
+            actions.click(DomWaitEngine.await(driver, DomWaitEngine.Condition.CLICKABLE, null,
+                    PAGE_TIMEOUT.toMillis(), submit));
+            trips++;
+        }
+        actions.perform();
+        return trips + 1;
+    }
+
+    public static String getFormFillStats() {
+        long fills = formFills.get();
+        return String.format("fills=%d avgRoundTrips=%.1f actionsFallbacks=%d",
+                fills, fills == 0 ? 0.0 : (double) formRoundTrips.get() / fills, formActionsFallbacks.get());
+    }
 }
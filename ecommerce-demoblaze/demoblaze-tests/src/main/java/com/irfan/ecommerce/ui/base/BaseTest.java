@@ -4,18 +4,30 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.devtools.DevTools;
 import org.openqa.selenium.devtools.v129.network.Network;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 
+import com.irfan.ecommerce.api.clients.AsyncCombinators;
+import com.irfan.ecommerce.util.CdpSession;
+import com.irfan.ecommerce.util.DialogWatcher;
 import com.irfan.ecommerce.util.GenericActions;
+import com.irfan.ecommerce.util.MemoryLeakMonitor;
+import com.irfan.ecommerce.util.NetworkRecorder;
+import com.irfan.ecommerce.util.PagePerformanceMonitor;
+import com.irfan.ecommerce.util.PageReadinessDetector;
 import com.irfan.ecommerce.util.PropertyReader;
-import com.irfan.ecommerce.api.clients.demoblaze.AuthClient;
+import com.irfan.ecommerce.util.ResourceBlocker;
+import com.irfan.ecommerce.util.ScriptRegistry;
 import com.irfan.ecommerce.ui.pages.HomePage;
 import com.irfan.ecommerce.ui.pages.LoginPage;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.openqa.selenium.Cookie;
+import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * BaseTest: The "Orchestrator" for all test classes.
@@ -31,16 +43,34 @@ import java.util.Optional;
 public class BaseTest {
     public WebDriver driver;
     protected static final Logger logger = LogManager.getLogger(BaseTest.class);
-    private AuthClient authClient = new AuthClient();
     protected LoginPage loginPage;
     protected HomePage homePage;
+    // 🛒 Set for @SeedCart tests: the cart the test starts with
+    protected CartSeeder.SeededCart seededCart;
 
     @BeforeMethod
-    public void setup() {
+    public void setup(ITestContext context, Method method) {
         logger.info("🚀 Thread [{}] BaseTest.setup()", Thread.currentThread().getId());
 
+        // 🛒 API cart seeding runs while the browser boots
+        seededCart = null;
+        SeedCart seed = method == null ? null : method.getAnnotation(SeedCart.class);
+        String seedUser = PropertyReader.getProperty("demoblaze.username");
+        String seedPassword = PropertyReader.getProperty("demoblaze.password");
+        CompletableFuture<CartSeeder.SeededCart> seeding = seed == null ? null
+                : CartSeeder.seedAsync(seedUser, seedPassword, seed.productIds());
+
         driver = DriverFactory.initDriver("chrome");
 
+        // One CDP session per test thread; every CDP feature below subscribes through it
+        CdpSession cdp = CdpSession.open(driver);
+        PageReadinessDetector.install(cdp);
+        ResourceBlocker.apply(cdp, resolveBlockProfile(context));
+        DialogWatcher.install(cdp);
+        ScriptRegistry.install(cdp);
+        PagePerformanceMonitor.install(cdp);
+        MemoryLeakMonitor.install(cdp, driver, getClass().getSimpleName() + "." + method.getName());
+
         try {
             GenericActions.startNetworkSniffer();
         } catch (Throwable t) {
@@ -60,6 +90,13 @@ public class BaseTest {
             baseUrl = "https://www.demoblaze.com";
         }
         driver.get(baseUrl);
+        GenericActions.waitForPageToLoad();
+        PagePerformanceMonitor.capture(driver, HomePage.class.getSimpleName());
+
+        if (seeding != null) {
+            seededCart = AsyncCombinators.join(seeding);
+            loginViaApi(seedUser, seedPassword);
+        }
         logger.info("✅ Thread [{}] DEMOBLAZE LOADED with Active CDP Sniffer", Thread.currentThread().getId());
     }
 
@@ -84,11 +121,21 @@ public class BaseTest {
         }
     }
 
+    /**
+     * 🚫 BLOCKING PROFILE: the suite XML 'block.profile' parameter wins,
+     * then -Dblock.profile / the properties file, else "none".
+     */
+    private String resolveBlockProfile(ITestContext context) {
+        String fromSuite = context == null ? null : context.getCurrentXmlTest().getParameter("block.profile");
+        return fromSuite != null ? fromSuite : PropertyReader.getProperty("block.profile", "none");
+    }
+
+    /**
+     * 🚀 API TELEPORT: Restores the user's cached session (one page load); the API
+     * login only runs when the snapshot is missing, expired or rejected.
+     */
     public void loginViaApi(String user, String pass) {
-        String token = authClient.getAuthToken(user, pass);
-        Cookie sessionCookie = new Cookie("tokenp_", token);
-        driver.manage().addCookie(sessionCookie);
-        driver.navigate().refresh();
+        SessionSnapshotStore.restore(driver, user, pass);
         logger.info("🚀 TELEPORT SUCCESS: Browser session authenticated via API: [{}]", user);
     }
 
@@ -112,10 +159,43 @@ public class BaseTest {
     }
 
     @AfterMethod(alwaysRun = true)
-    public void teardown() {
+    public void teardown(ITestResult result) {
         logger.info("🧹 Thread [{}] teardown", Thread.currentThread().getId());
+        // ⏱️ Budget breaches (including the landing load in setup) fail the test here, not the config
+        List<String> perfViolations = PagePerformanceMonitor.drainViolations();
+        for (String violation : perfViolations) {
+            reportLog("⏱️ PERF_BUDGET: " + violation);
+        }
+        if (result != null && PagePerformanceMonitor.isFailMode() && !perfViolations.isEmpty()
+                && result.getStatus() == ITestResult.SUCCESS) {
+            result.setStatus(ITestResult.FAILURE);
+            result.setThrowable(new AssertionError(
+                    "Page performance budget exceeded: " + String.join("; ", perfViolations)));
+        }
+        // 📦 Failed test: keep its network capture as a HAR (unless Listeners already did)
+        if (result != null && result.getStatus() == ITestResult.FAILURE
+                && result.getAttribute(NetworkRecorder.HAR_ATTRIBUTE) == null) {
+            String harPath = NetworkRecorder.exportHar(result.getName());
+            if (harPath != null) {
+                result.setAttribute(NetworkRecorder.HAR_ATTRIBUTE, harPath);
+            }
+        }
         GenericActions.stopNetworkSniffer();
-        DriverFactory.quitDriver();
+        String blockingReport = ResourceBlocker.finish();
+        if (blockingReport != null) {
+            reportLog(blockingReport);
+        }
+        PagePerformanceMonitor.uninstall();
+        String recycleReason = MemoryLeakMonitor.finish();
+        if (recycleReason != null) {
+            reportLog("♻️ MEMORY_RECYCLE: Browser retired after this test (" + recycleReason + ")");
+            DriverFactory.recycleOnRelease();
+        }
+        PageReadinessDetector.uninstall();
+        DialogWatcher.uninstall();
+        ScriptRegistry.uninstall();
+        CdpSession.close();
+        DriverFactory.releaseDriver();
     }
 
 }
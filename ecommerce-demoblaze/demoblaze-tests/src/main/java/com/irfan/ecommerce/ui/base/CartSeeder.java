@@ -0,0 +1,90 @@
+package com.irfan.ecommerce.ui.base;
+
+import com.irfan.ecommerce.api.clients.ApiClientRegistry;
+import com.irfan.ecommerce.api.clients.AsyncCombinators;
+import com.irfan.ecommerce.api.clients.demoblaze.CartClient;
+import com.irfan.ecommerce.util.PropertyReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CartSeeder: Build cart state over the API, not through the UI.
+ *
+ * THE WALMART HEADACHE I FIXED:
+ * - THE PROBLEM: Cart tests spent most of their browser time ARRANGING the cart
+ *   (open product, add to cart, accept alert, navigate) before asserting anything.
+ * - WHAT I DID: @SeedCart tests get their cart from the API. The user's cart is
+ *   emptied and the products are added concurrently, and all of it runs while the
+ *   browser is still booting.
+ * - THE RESULT: The browser only does what the test exists for: the assertions.
+ *
+ * NOTE: Seeding owns the whole cart of that user, so seeded tests for the same
+ *   user must not run at the same time.
+ */
+public final class CartSeeder {
+    private static final Logger log = LogManager.getLogger(CartSeeder.class);
+    private static final AtomicInteger threadIds = new AtomicInteger();
+    private static final ExecutorService pool = Executors.newFixedThreadPool(
+            PropertyReader.getIntProperty("cart.seed.parallelism", 4), r -> {
+                Thread t = new Thread(r, "cart-seeder-" + threadIds.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+    // Whole-seed tasks get their own threads: they block on calls queued in 'pool', so
+    // sharing it could starve, and the common ForkJoinPool is shared with the async tier
+    private static final ExecutorService seeders = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "cart-seed-" + threadIds.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    private CartSeeder() {
+        throw new IllegalStateException("Utility class - instantiation is not allowed.");
+    }
+
+    /**
+     * The cart a seeded test starts with.
+     */
+    public record SeededCart(String user, List<Integer> productIds, List<String> entryIds) {
+    }
+
+    /**
+     * Starts seeding in the background. Wait for it with AsyncCombinators.join() once the
+     * browser is up, so a SkipException from an open circuit still skips the test.
+     */
+    public static CompletableFuture<SeededCart> seedAsync(String user, String password, int... productIds) {
+        return CompletableFuture.supplyAsync(() -> seed(user, password, productIds), seeders);
+    }
+
+    /**
+     * Empties the user's cart, then adds one line per product id, all calls in parallel.
+     */
+    public static SeededCart seed(String user, String password, int... productIds) {
+        long start = System.currentTimeMillis();
+        String token = SessionSnapshotStore.tokenFor(user, password);
+        CartClient cartClient = ApiClientRegistry.get(CartClient.class);
+
+        List<String> stale = cartClient.viewCart(token);
+        AsyncCombinators.join(CompletableFuture.allOf(stale.stream()
+                .map(entryId -> CompletableFuture.runAsync(() -> cartClient.deleteItem(entryId), pool))
+                .toArray(CompletableFuture[]::new)));
+
+        List<CompletableFuture<String>> adds = new ArrayList<>();
+        for (int productId : productIds) {
+            adds.add(CompletableFuture.supplyAsync(() -> cartClient.addToCart(String.valueOf(productId), token), pool));
+        }
+        List<String> entryIds = adds.stream().map(AsyncCombinators::join).toList();
+
+        log.info("🛒 CART_SEEDED: [{}] {} stale line(s) removed, {} product(s) added in {}ms.",
+                user, stale.size(), productIds.length, System.currentTimeMillis() - start);
+        return new SeededCart(user, Arrays.stream(productIds).boxed().toList(), entryIds);
+    }
+}
@@ -3,21 +3,60 @@ package com.irfan.ecommerce.ui.base;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.Proxy;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.irfan.ecommerce.util.PropertyReader;
+import java.io.File;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 public class DriverFactory {
+    // 🔐 LEASE BOOKKEEPING: tlDriver = the session this thread currently holds,
+    // allDrivers = every live session (leased or idle in the pool).
     private static final ThreadLocal<WebDriver> tlDriver = new ThreadLocal<>();
     private static final Logger logger = LogManager.getLogger(DriverFactory.class);
     private static final Set<WebDriver> allDrivers = Collections.synchronizedSet(new HashSet<>());
 
+    // 🏊 WARM SESSION POOL: disabled via -Ddriver.pool.enabled=false to get a fresh browser per test
+    private static final boolean poolEnabled = PropertyReader.getBooleanProperty("driver.pool.enabled", true);
+    private static final DriverPool pool = new DriverPool(
+            PropertyReader.getIntProperty("driver.pool.max.size", 5),
+            PropertyReader.getIntProperty("driver.pool.warmup", 2),
+            PropertyReader.getLongProperty("driver.pool.max.age.minutes", 30) * 60_000L,
+            PropertyReader.getIntProperty("driver.pool.max.tests", 25),
+            PropertyReader.getLongProperty("driver.pool.lease.timeout.seconds", 120) * 1000L,
+            DriverFactory::createDriver,
+            DriverFactory::resetDriver,
+            DriverFactory::destroyDriver);
+
+    // 🌐 GRID MODE: active when REMOTE_URL (docker-compose) / -Dremote.url is set, or execution_env=remote
+    private static final String remoteUrl = resolveRemoteUrl();
+    private static final GridSessionScheduler gridScheduler = remoteUrl == null ? null : new GridSessionScheduler(
+            remoteUrl,
+            "chrome",
+            PropertyReader.getLongProperty("grid.status.poll.ms", 2000),
+            PropertyReader.getLongProperty("grid.slot.wait.seconds", 300) * 1000L,
+            PropertyReader.getIntProperty("grid.fallback.max.sessions", 5));
+
+    // 🧩 CONTEXT MODE: several tests share one local Chrome process via CDP browser contexts
+    private static final BrowserContextManager contextManager =
+            gridScheduler == null && PropertyReader.getBooleanProperty("driver.contexts.enabled", false)
+                    ? new BrowserContextManager(
+                            PropertyReader.getIntProperty("driver.contexts.per.process", 4),
+                            () -> startLocalChrome(buildOptions()),
+                            DriverFactory::startLocalChrome)
+                    : null;
+
     static {
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (poolEnabled) {
+                logger.info("📊 POOL_METRICS: {}", pool.getStats());
+            }
+            DriverStartupProfile.logSummary();
             logger.warn("🚨 JVM Shutdown: Commencing 100% Resource Cleanup for {} active drivers...", allDrivers.size());
             synchronized (allDrivers) {
                 for (WebDriver driver : allDrivers) {
@@ -31,15 +70,51 @@ public class DriverFactory {
                 }
                 allDrivers.clear();
             }
+            if (contextManager != null) {
+                contextManager.shutdown();
+            }
         }));
     }
 
+    /**
+     * Gives the current thread a ready browser. With pooling on (default) this is a
+     * lease of a warm session; the previous lease held by this thread is returned first.
+     */
     public static WebDriver initDriver(String browserName) {
         String env = System.getProperty("execution_env", "local");
         logger.info("🔧 Thread [{}] Environment: {} | Browser: {}", Thread.currentThread().getId(), env, browserName);
 
-        quitDriver();
-        
+        releaseDriver();
+
+        WebDriver driver = poolEnabled ? pool.lease(browserName) : createDriver(browserName);
+        tlDriver.set(driver);
+        return driver;
+    }
+
+    /**
+     * Boots a brand-new browser session and registers it in allDrivers.
+     */
+    private static WebDriver createDriver(String browserName) {
+        ChromeOptions options = buildOptions();
+
+        if (gridScheduler != null) {
+            try {
+                WebDriver driver = gridScheduler.createSession(options);
+                allDrivers.add(driver);
+                logger.info("🌐 Thread [{}] Remote session opened on Grid: {}", Thread.currentThread().getId(), remoteUrl);
+                return driver;
+            } catch (Exception e) {
+                logger.error("❌ Remote driver initialization failed: {}", e.getMessage());
+                throw new RuntimeException("Remote driver init failed", e);
+            }
+        }
+
+        WebDriver driver = contextManager != null ? contextManager.openContext() : startLocalChrome(options);
+        allDrivers.add(driver);
+        return driver;
+    }
+
+    private static ChromeOptions buildOptions() {
         ChromeOptions options = new ChromeOptions();
         options.addArguments("--remote-allow-origins=*");
 
@@ -69,14 +144,36 @@ public class DriverFactory {
             options.addArguments("--no-sandbox");
             options.addArguments("--disable-dev-shm-usage");
         }
+        return options;
+    }
 
+    /**
+     * Spawns a local chromedriver process and opens a session on it.
+     */
+    private static ChromeDriver startLocalChrome(ChromeOptions options) {
+        ChromeDriverService service = null;
         try {
-            WebDriverManager.chromedriver().setup();
-            WebDriver driver = new ChromeDriver(options);
-            tlDriver.set(driver);
-            allDrivers.add(driver);
+            // ⏱️ STARTUP BREAKDOWN: resolve (once per JVM) -> process spawn -> new session
+            File binary = new File(DriverBinaryResolver.resolve());
+            service = new ChromeDriverService.Builder()
+                    .usingDriverExecutable(binary)
+                    .usingAnyFreePort()
+                    .build();
+
+            long spawnStart = System.nanoTime();
+            service.start();
+            long sessionStart = System.nanoTime();
+            ChromeDriver driver = new ChromeDriver(service, options);
+            long sessionEnd = System.nanoTime();
+
+            DriverStartupProfile.recordSession(
+                    TimeUnit.NANOSECONDS.toMillis(sessionStart - spawnStart),
+                    TimeUnit.NANOSECONDS.toMillis(sessionEnd - sessionStart));
             return driver;
         } catch (Exception e) {
+            if (service != null) {
+                service.stop();
+            }
             logger.error("❌ Driver initialization failed: {}", e.getMessage());
             throw new RuntimeException("Driver init failed", e);
         }
@@ -90,13 +187,82 @@ public class DriverFactory {
         return driver;
     }
 
+    /**
+     * Ends this thread's lease: the session goes back to the pool after a state reset
+     * (or is quit outright when pooling is disabled).
+     */
+    public static void releaseDriver() {
+        WebDriver driver = tlDriver.get();
+        if (driver != null) {
+            tlDriver.remove();
+            if (poolEnabled) {
+                pool.release(driver);
+                logger.info("🔁 Thread [{}] session returned to pool + ThreadLocal cleared", Thread.currentThread().getId());
+            } else {
+                destroyDriver(driver);
+                logger.info("🧹 Thread [{}] driver quit + ThreadLocal cleared", Thread.currentThread().getId());
+            }
+        }
+    }
+
+    /**
+     * Quits this thread's session for good instead of returning it to the pool.
+     */
     public static void quitDriver() {
         WebDriver driver = tlDriver.get();
         if (driver != null) {
-            allDrivers.remove(driver);
-            driver.quit();
             tlDriver.remove();
+            if (poolEnabled) {
+                pool.evict(driver);
+            } else {
+                destroyDriver(driver);
+            }
             logger.info("🧹 Thread [{}] driver quit + ThreadLocal cleared", Thread.currentThread().getId());
         }
     }
+
+    /**
+     * Marks this thread's session to be quit instead of reused when it is next released
+     * (e.g. the browser has bloated). Unpooled sessions are quit on release anyway.
+     */
+    public static void recycleOnRelease() {
+        WebDriver driver = tlDriver.get();
+        if (driver != null && poolEnabled) {
+            pool.recycleOnRelease(driver);
+        }
+    }
+
+    public static DriverPool.Stats getPoolStats() {
+        return pool.getStats();
+    }
+
+    private static boolean resetDriver(WebDriver driver) {
+        if (contextManager != null && contextManager.owns(driver)) {
+            return contextManager.resetContext(driver);
+        }
+        return DriverPool.resetState(driver);
+    }
+
+    private static void destroyDriver(WebDriver driver) {
+        allDrivers.remove(driver);
+        try {
+            if (contextManager == null || !contextManager.closeContext(driver)) {
+                driver.quit();
+            }
+        } catch (Exception e) {
+            logger.error("❌ Failed to quit driver cleanly: {}", e.getMessage());
+        } finally {
+            if (gridScheduler != null) {
+                gridScheduler.onSessionClosed();
+            }
+        }
+    }
+
+    private static String resolveRemoteUrl() {
+        String url = PropertyReader.getProperty("remote.url", System.getenv("REMOTE_URL"));
+        if (url == null && "remote".equalsIgnoreCase(System.getProperty("execution_env"))) {
+            url = "http://localhost:4444/wd/hub";
+        }
+        return url;
+    }
 }
\ No newline at end of file
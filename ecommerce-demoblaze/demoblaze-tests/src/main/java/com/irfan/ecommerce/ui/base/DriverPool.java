@@ -0,0 +1,337 @@
+package com.irfan.ecommerce.ui.base;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * DriverPool: Warm browser sessions that tests lease instead of booting.
+ *
+ * 🚀 THE WALMART-SCALE "WHY":
+ * SITUATION: DriverFactory used to quit and relaunch Chrome for every @BeforeMethod.
+ *   At 2-4s of browser boot per test, startup dominated the UI shard wall-clock.
+ * ACTION: A bounded pool of live sessions. A test leases one, the teardown wipes it
+ *   (alerts, extra windows, storage, cookies) and hands it back for the next test.
+ *   Sessions are recycled once they are too old or have served too many tests.
+ * RESULT: Browser boot is paid once per pool slot instead of once per test.
+ */
+public class DriverPool {
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+    private static final long WAIT_SLICE_MS = 250;
+
+    private final int maxSize;
+    private final int warmUp;
+    private final long maxAgeMillis;
+    private final int maxTestsPerSession;
+    private final long leaseTimeoutMillis;
+
+    private final Function<String, WebDriver> factory;
+    private final Predicate<WebDriver> resetter;
+    private final Consumer<WebDriver> destroyer;
+
+    private final BlockingDeque<PooledSession> idle = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, PooledSession> sessions = new ConcurrentHashMap<>();
+    private final Set<WebDriver> recycleRequests = ConcurrentHashMap.newKeySet();
+    private final Semaphore capacity;
+    private final AtomicBoolean warmedUp = new AtomicBoolean(false);
+
+    // 📊 POOL METRICS
+    private final AtomicLong leases = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong recycles = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    DriverPool(int maxSize, int warmUp, long maxAgeMillis, int maxTestsPerSession, long leaseTimeoutMillis,
+               Function<String, WebDriver> factory, Predicate<WebDriver> resetter, Consumer<WebDriver> destroyer) {
+        this.maxSize = maxSize;
+        this.warmUp = Math.min(warmUp, maxSize);
+        this.maxAgeMillis = maxAgeMillis;
+        this.maxTestsPerSession = maxTestsPerSession;
+        this.leaseTimeoutMillis = leaseTimeoutMillis;
+        this.factory = factory;
+        this.resetter = resetter;
+        this.destroyer = destroyer;
+        this.capacity = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Hands out a clean session: an idle warm one if available, a new one while
+     * the pool has spare capacity, otherwise waits for another test to return one.
+     */
+    public WebDriver lease(String browserName) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(leaseTimeoutMillis);
+        warmUpInBackground(browserName);
+
+        try {
+            while (true) {
+                PooledSession session = idle.pollFirst();
+                if (session == null && !capacity.tryAcquire()) {
+                    if (System.nanoTime() >= deadline) {
+                        throw new RuntimeException("🛑 POOL_EXHAUSTED: No browser session freed up within "
+                                + leaseTimeoutMillis + "ms (max.size=" + maxSize + ")");
+                    }
+                    session = idle.pollFirst(WAIT_SLICE_MS, TimeUnit.MILLISECONDS);
+                    if (session == null) {
+                        continue;
+                    }
+                }
+
+                if (session == null) {
+                    session = create(browserName);
+                } else {
+                    String reason = session.recycleReason(maxAgeMillis, maxTestsPerSession);
+                    if (reason != null) {
+                        recycle(session, reason);
+                        continue;
+                    }
+                    hits.incrementAndGet();
+                }
+                return session.driver;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a pooled browser session", e);
+        } finally {
+            long waited = System.nanoTime() - start;
+            leases.incrementAndGet();
+            totalWaitNanos.addAndGet(waited);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+        }
+    }
+
+    /**
+     * Returns a session to the pool after wiping its state. Sessions that fail the
+     * wipe, or hit their age / test budget, are quit instead of being reused.
+     */
+    public void release(WebDriver driver) {
+        PooledSession session = sessions.get(driver);
+        if (session == null) {
+            destroyer.accept(driver);
+            return;
+        }
+
+        session.testsServed++;
+        String reason = recycleRequests.remove(driver) ? "flagged"
+                : session.recycleReason(maxAgeMillis, maxTestsPerSession);
+        if (reason == null && !resetter.test(driver)) {
+            reason = "reset-failed";
+        }
+
+        if (reason != null) {
+            recycle(session, reason);
+        } else {
+            // LIFO: the most recently used session is the one most likely still 'hot'
+            idle.offerFirst(session);
+        }
+    }
+
+    /**
+     * Drops a session from the pool for good (e.g. it crashed mid-test).
+     */
+    public void evict(WebDriver driver) {
+        PooledSession session = sessions.get(driver);
+        if (session != null) {
+            recycle(session, "evicted");
+        } else {
+            destroyer.accept(driver);
+        }
+    }
+
+    /**
+     * Asks the pool to recycle this session at its next test boundary instead of reusing it.
+     */
+    public void recycleOnRelease(WebDriver driver) {
+        if (sessions.containsKey(driver)) {
+            recycleRequests.add(driver);
+        }
+    }
+
+    public boolean isPooled(WebDriver driver) {
+        return sessions.containsKey(driver);
+    }
+
+    private PooledSession create(String browserName) {
+        try {
+            PooledSession session = new PooledSession(factory.apply(browserName));
+            sessions.put(session.driver, session);
+            created.incrementAndGet();
+            return session;
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+    }
+
+    private void recycle(PooledSession session, String reason) {
+        sessions.remove(session.driver);
+        recycleRequests.remove(session.driver);
+        recycles.incrementAndGet();
+        logger.info("♻️ POOL: Recycling session after {} tests ({}).", session.testsServed, reason);
+        try {
+            destroyer.accept(session.driver);
+        } finally {
+            capacity.release();
+        }
+    }
+
+    /**
+     * Boots the remaining warm-up sessions in parallel on the first lease, so the
+     * other TestNG threads find a ready browser instead of paying the boot themselves.
+     */
+    private void warmUpInBackground(String browserName) {
+        if (warmUp <= 1 || !warmedUp.compareAndSet(false, true)) {
+            return;
+        }
+        for (int i = 1; i < warmUp; i++) {
+            Thread warmer = new Thread(() -> {
+                if (!capacity.tryAcquire()) {
+                    return;
+                }
+                try {
+                    idle.offerLast(create(browserName));
+                } catch (RuntimeException e) {
+                    logger.warn("⚠️ POOL: Warm-up session failed to boot: {}", e.getMessage());
+                }
+            }, "driver-pool-warmup-" + i);
+            warmer.setDaemon(true);
+            warmer.start();
+        }
+        logger.info("🔥 POOL: Pre-warming {} extra browser session(s) in background.", warmUp - 1);
+    }
+
+    /**
+     * 🧹 STATE RESET: Makes a used session indistinguishable from a fresh one.
+     * Order matters: storage can only be cleared while still on the test's origin.
+     */
+    static boolean resetState(WebDriver driver) {
+        try {
+            try {
+                driver.switchTo().alert().dismiss();
+            } catch (NoAlertPresentException ignored) {
+                // Nothing left open
+            }
+
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            if (handles.isEmpty()) {
+                return false;
+            }
+            for (String handle : handles.subList(1, handles.size())) {
+                driver.switchTo().window(handle);
+                driver.close();
+            }
+            driver.switchTo().window(handles.get(0));
+
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.manage().deleteAllCookies();
+            if (driver instanceof ChromiumDriver) {
+                // deleteAllCookies() only covers the current domain; CDP wipes every domain
+                ((ChromiumDriver) driver).executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            logger.warn("⚠️ POOL: Session reset failed, recycling instead: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public Stats getStats() {
+        return new Stats(leases.get(), hits.get(), created.get(), recycles.get(),
+                totalWaitNanos.get(), maxWaitNanos.get(), sessions.size(), idle.size());
+    }
+
+    /**
+     * Point-in-time pool metrics for the logs and the Extent report.
+     */
+    public static final class Stats {
+        private final long leases;
+        private final long hits;
+        private final long created;
+        private final long recycles;
+        private final long totalWaitNanos;
+        private final long maxWaitNanos;
+        private final int live;
+        private final int idle;
+
+        Stats(long leases, long hits, long created, long recycles, long totalWaitNanos, long maxWaitNanos,
+              int live, int idle) {
+            this.leases = leases;
+            this.hits = hits;
+            this.created = created;
+            this.recycles = recycles;
+            this.totalWaitNanos = totalWaitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+            this.live = live;
+            this.idle = idle;
+        }
+
+        public long getLeases() { return leases; }
+        public long getHits() { return hits; }
+        public long getCreated() { return created; }
+        public long getRecycles() { return recycles; }
+        public int getLive() { return live; }
+        public int getIdle() { return idle; }
+
+        public double getHitRate() {
+            return leases == 0 ? 0 : (double) hits / leases;
+        }
+
+        public long getAverageWaitMillis() {
+            return leases == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos / leases);
+        }
+
+        public long getMaxWaitMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("leases=%d hits=%d (%.0f%%) created=%d recycles=%d avgWait=%dms maxWait=%dms live=%d idle=%d",
+                    leases, hits, getHitRate() * 100, created, recycles, getAverageWaitMillis(), getMaxWaitMillis(),
+                    live, idle);
+        }
+    }
+
+    private static final class PooledSession {
+        private final WebDriver driver;
+        private final long createdAt = System.currentTimeMillis();
+        private int testsServed;
+
+        private PooledSession(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        private String recycleReason(long maxAgeMillis, int maxTests) {
+            if (maxAgeMillis > 0 && System.currentTimeMillis() - createdAt > maxAgeMillis) {
+                return "max-age";
+            }
+            if (maxTests > 0 && testsServed >= maxTests) {
+                return "max-tests";
+            }
+            return null;
+        }
+    }
+}
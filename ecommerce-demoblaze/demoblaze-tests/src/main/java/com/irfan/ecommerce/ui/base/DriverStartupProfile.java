@@ -0,0 +1,66 @@
+package com.irfan.ecommerce.ui.base;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DriverStartupProfile: Where does browser startup time actually go?
+ *
+ * SITUATION: "Chrome is slow to start" was a feeling, not a number.
+ * ACTION: Every session boot is split into binary resolve, chromedriver process
+ *   spawn and new-session handshake, logged per thread and summarised per run.
+ * RESULT: We can tell a slow driver download from a slow browser launch.
+ */
+public final class DriverStartupProfile {
+    private static final Logger logger = LogManager.getLogger(DriverStartupProfile.class);
+    private static final Map<String, ThreadTotals> perThread = new ConcurrentHashMap<>();
+
+    private DriverStartupProfile() {
+        throw new IllegalStateException("Utility class - instantiation is not allowed.");
+    }
+
+    static void recordResolve(long millis) {
+        totals().resolveMillis += millis;
+    }
+
+    /**
+     * Records one session boot on the current thread and logs its breakdown.
+     */
+    static void recordSession(long spawnMillis, long sessionMillis) {
+        ThreadTotals totals = totals();
+        totals.sessions++;
+        totals.spawnMillis += spawnMillis;
+        totals.sessionMillis += sessionMillis;
+        if (totals.sessions == 1) {
+            totals.firstSessionMillis = spawnMillis + sessionMillis;
+        }
+        logger.info("⏱️ STARTUP Thread [{}]: resolve={}ms spawn={}ms session={}ms{}",
+                Thread.currentThread().getName(), totals.resolveMillis, spawnMillis, sessionMillis,
+                totals.sessions == 1 ? " (first session on this thread)" : "");
+    }
+
+    /**
+     * Logs the per-thread breakdown for the whole run.
+     */
+    public static void logSummary() {
+        perThread.forEach((thread, t) -> logger.info(
+                "📊 STARTUP_SUMMARY Thread [{}]: sessions={} resolve={}ms firstSession={}ms spawnTotal={}ms sessionTotal={}ms",
+                thread, t.sessions, t.resolveMillis, t.firstSessionMillis, t.spawnMillis, t.sessionMillis));
+    }
+
+    private static ThreadTotals totals() {
+        return perThread.computeIfAbsent(Thread.currentThread().getName(), k -> new ThreadTotals());
+    }
+
+    // Only ever mutated by the thread it belongs to
+    private static final class ThreadTotals {
+        private int sessions;
+        private long resolveMillis;
+        private long spawnMillis;
+        private long sessionMillis;
+        private long firstSessionMillis;
+    }
+}
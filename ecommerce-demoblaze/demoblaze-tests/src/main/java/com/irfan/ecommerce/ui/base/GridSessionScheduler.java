@@ -0,0 +1,227 @@
+package com.irfan.ecommerce.ui.base;
+
+import io.restassured.RestAssured;
+import io.restassured.path.json.JsonPath;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * GridSessionScheduler: Node-capacity-aware session creation for Selenium Grid.
+ *
+ * 🚀 THE EMIRATES-SCALE "WHY":
+ * SITUATION: Firing 'new RemoteWebDriver' from every TestNG thread at once parks the
+ *   surplus requests in the hub's new-session queue, where they time out and show up
+ *   as random "could not start a new session" failures.
+ * ACTION: Poll the Grid '/status' endpoint for free slots matching our browser and make
+ *   TestNG threads wait in a local, fair queue until a slot is actually free.
+ * RESULT: Adding Chrome nodes scales the suite horizontally without over-subscribing them.
+ */
+public class GridSessionScheduler {
+    private static final Logger logger = LogManager.getLogger(GridSessionScheduler.class);
+
+    private final URL hubUrl;
+    private final String statusUrl;
+    private final String browserName;
+    private final long pollMillis;
+    private final long acquireTimeoutMillis;
+    private final int fallbackMaxSessions;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition capacityChanged = lock.newCondition();
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "grid-status-poller");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Guarded by 'lock'
+    private boolean started;
+    private int freeSlots = -1;          // -1 = Grid status unknown (endpoint unreachable)
+    private int creating;                // sessions requested but not yet returned by the hub
+    private int activeSessions;          // sessions this JVM currently holds on the Grid
+    private int queued;
+    private final Deque<Long> unconfirmed = new ArrayDeque<>(); // created after the last status snapshot
+
+    public GridSessionScheduler(String remoteUrl, String browserName, long pollMillis,
+                                long acquireTimeoutMillis, int fallbackMaxSessions) {
+        try {
+            this.hubUrl = URI.create(remoteUrl).toURL();
+        } catch (MalformedURLException | IllegalArgumentException e) {
+            throw new RuntimeException("🛑 CONFIG_ERROR: Invalid Grid URL: " + remoteUrl, e);
+        }
+        this.statusUrl = remoteUrl.replaceAll("/+$", "").replaceAll("/wd/hub$", "") + "/status";
+        this.browserName = browserName;
+        this.pollMillis = pollMillis;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.fallbackMaxSessions = fallbackMaxSessions;
+    }
+
+    /**
+     * Blocks until the Grid has a free slot for us, then opens the remote session.
+     */
+    public WebDriver createSession(Capabilities capabilities) {
+        acquireSlot();
+        boolean created = false;
+        try {
+            RemoteWebDriver remote = new RemoteWebDriver(hubUrl, capabilities);
+            WebDriver driver;
+            try {
+                driver = new Augmenter().augment(remote);
+            } catch (RuntimeException e) {
+                // The Grid session already exists: quit it or it holds the slot until the Grid times it out
+                try {
+                    remote.quit();
+                } catch (RuntimeException quitError) {
+                    e.addSuppressed(quitError);
+                }
+                throw e;
+            }
+            created = true;
+            return driver;
+        } finally {
+            lock.lock();
+            try {
+                creating--;
+                if (created) {
+                    activeSessions++;
+                    unconfirmed.addLast(System.currentTimeMillis());
+                }
+                capacityChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Called once a remote session has been quit so the next waiter can go.
+     */
+    public void onSessionClosed() {
+        lock.lock();
+        try {
+            activeSessions = Math.max(0, activeSessions - 1);
+        } finally {
+            lock.unlock();
+        }
+        poller.execute(this::pollStatus);
+    }
+
+    private void acquireSlot() {
+        lock.lock();
+        try {
+            startPollingIfNeeded();
+            long remaining = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMillis);
+            if (available() <= 0) {
+                logger.info("⏳ GRID_QUEUE: Thread [{}] waiting for a free {} slot (free={}, creating={}, queued={})",
+                        Thread.currentThread().getId(), browserName, freeSlots, creating, queued);
+            }
+            while (available() <= 0) {
+                if (remaining <= 0) {
+                    throw new RuntimeException("🛑 GRID_SATURATED: No free " + browserName + " slot on "
+                            + statusUrl + " within " + acquireTimeoutMillis + "ms");
+                }
+                queued++;
+                try {
+                    remaining = capacityChanged.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while waiting for a Grid slot", e);
+                } finally {
+                    queued--;
+                }
+            }
+            creating++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Caller holds 'lock'
+    private int available() {
+        if (freeSlots < 0) {
+            return fallbackMaxSessions - activeSessions - creating;
+        }
+        return freeSlots - creating - unconfirmed.size();
+    }
+
+    // Caller holds 'lock'
+    private void startPollingIfNeeded() {
+        if (!started) {
+            started = true;
+            pollStatus();
+            poller.scheduleWithFixedDelay(this::pollStatus, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 📡 CAPACITY PROBE: Counts free slots on UP nodes whose stereotype matches our browser.
+     */
+    private void pollStatus() {
+        long snapshotStart = System.currentTimeMillis();
+        int free = -1;
+        try {
+            JsonPath status = RestAssured.get(statusUrl).jsonPath();
+            List<Map<String, Object>> nodes = status.getList("value.nodes");
+            free = 0;
+            if (nodes != null) {
+                for (Map<String, Object> node : nodes) {
+                    if (!"UP".equalsIgnoreCase(String.valueOf(node.get("availability")))) {
+                        continue;
+                    }
+                    free += countFreeSlots(node);
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("⚠️ GRID_STATUS: {} unreachable, falling back to max {} sessions: {}",
+                    statusUrl, fallbackMaxSessions, e.getMessage());
+        }
+
+        lock.lock();
+        try {
+            freeSlots = free;
+            // Sessions created before this snapshot started are already counted as busy by the Grid
+            while (!unconfirmed.isEmpty() && unconfirmed.peekFirst() < snapshotStart) {
+                unconfirmed.pollFirst();
+            }
+            capacityChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int countFreeSlots(Map<String, Object> node) {
+        Object slots = node.get("slots");
+        if (!(slots instanceof List)) {
+            return 0;
+        }
+        int free = 0;
+        for (Object entry : (List<Object>) slots) {
+            Map<String, Object> slot = (Map<String, Object>) entry;
+            Object stereotype = slot.get("stereotype");
+            boolean matches = stereotype instanceof Map
+                    && browserName.equalsIgnoreCase(String.valueOf(((Map<String, Object>) stereotype).get("browserName")));
+            if (matches && slot.get("session") == null) {
+                free++;
+            }
+        }
+        return free;
+    }
+}
@@ -0,0 +1,14 @@
+package com.irfan.ecommerce.ui.base;
+
+import java.util.List;
+
+/**
+ * RowMapper: Turns one snapshotted table/list row into a typed object.
+ *
+ * The cells arrive in the same order as the cell selectors passed to
+ * {@link BasePage#snapshotRows}. A cell whose selector matched nothing is null.
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+    T map(List<String> cells);
+}
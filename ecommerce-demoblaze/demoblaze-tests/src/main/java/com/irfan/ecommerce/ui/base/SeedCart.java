@@ -0,0 +1,20 @@
+package com.irfan.ecommerce.ui.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 🛒 SeedCart: Marks a UI test whose cart should already hold these DemoBlaze
+ * product ids (one line each) when the test body starts.
+ *
+ * BaseTest clears the configured user's cart and adds the products over the API,
+ * concurrently, while the browser boots, then restores that user's session. The
+ * result is exposed to the test as BaseTest.seededCart.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface SeedCart {
+    int[] productIds();
+}
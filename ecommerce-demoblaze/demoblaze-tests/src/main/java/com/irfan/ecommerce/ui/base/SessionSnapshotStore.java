@@ -0,0 +1,295 @@
+package com.irfan.ecommerce.ui.base;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.irfan.ecommerce.api.clients.ApiClientRegistry;
+import com.irfan.ecommerce.api.clients.demoblaze.AuthClient;
+import com.irfan.ecommerce.util.DomWaitEngine;
+import com.irfan.ecommerce.util.GenericActions;
+import com.irfan.ecommerce.util.ObjectRepo;
+import com.irfan.ecommerce.util.PropertyReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SessionSnapshotStore: Log each test user in once per TTL, not once per test.
+ *
+ * 🚀 THE WALMART-SCALE "WHY":
+ * SITUATION: loginViaApi() called AuthClient.getAuthToken() for every test (up to three
+ *   HTTP calls when the user had to be signed up first) and then refreshed the page.
+ * ACTION: The first login for a user is snapshotted (cookies + localStorage) with an
+ *   expiry, so later tests restore it with one page load. A snapshot the site no longer
+ *   accepts is dropped and the user is logged in again, lazily, on that test only.
+ * RESULT: Authentication becomes an in-memory lookup for almost every test.
+ *
+ * SECURITY: Snapshots hold live auth cookies and tokens, so by default they live only
+ *   for the run. With session.snapshot.persist=true later runs reuse them too: they go
+ *   to .cache/sessions (git-ignored, outside target/) as owner-only (0600) files in an
+ *   owner-only (0700) directory.
+ *
+ * NOTE: restore() expects the driver to already be on the application's origin
+ *   (BaseTest.setup() has loaded the base URL), since cookies are set per domain.
+ */
+public final class SessionSnapshotStore {
+    private static final Logger log = LogManager.getLogger(SessionSnapshotStore.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final File DIR =
+            new File(PropertyReader.getProperty("session.snapshot.dir", ".cache/sessions"));
+    private static final boolean PERSIST = PropertyReader.getBooleanProperty("session.snapshot.persist", false);
+    private static final long TTL_MS = PropertyReader.getLongProperty("session.snapshot.ttl.minutes", 60) * 60_000;
+    private static final long VERIFY_MS = PropertyReader.getLongProperty("session.snapshot.verify.ms", 5000);
+    private static final String TOKEN_COOKIE = "tokenp_";
+
+    private static final Map<String, ObjectNode> snapshots = new ConcurrentHashMap<>();
+    private static final Map<String, Object> userLocks = new ConcurrentHashMap<>();
+
+    // 📊 SESSION METRICS
+    private static final AtomicLong restores = new AtomicLong();
+    private static final AtomicLong memoryHits = new AtomicLong();
+    private static final AtomicLong diskHits = new AtomicLong();
+    private static final AtomicLong logins = new AtomicLong();
+    private static final AtomicLong rejected = new AtomicLong();
+
+    private SessionSnapshotStore() {
+        throw new IllegalStateException("Utility class - instantiation is not allowed.");
+    }
+
+    /**
+     * Puts the user's session into the browser with a single page load, logging in via
+     * the API only when no valid snapshot exists or the site rejects the stored one.
+     */
+    public static void restore(WebDriver driver, String user, String password) {
+        restores.incrementAndGet();
+        ObjectNode snapshot = obtain(user, password);
+        apply(driver, snapshot);
+        if (isAuthenticated(driver)) {
+            if (!snapshot.path("captured").asBoolean()) {
+                capture(driver, user, snapshot.path("expiresAt").asLong());
+            }
+            log.info("🔐 SESSION: [{}] restored from snapshot.", user);
+            return;
+        }
+
+        rejected.incrementAndGet();
+        log.warn("⚠️ SESSION_REJECTED: Snapshot for [{}] no longer accepted. Re-authenticating.", user);
+        invalidate(user);
+        snapshot = obtain(user, password);
+        apply(driver, snapshot);
+        if (!isAuthenticated(driver)) {
+            throw new RuntimeException("🛑 SESSION_FAILURE: Fresh login for [" + user + "] was not accepted by the UI.");
+        }
+        capture(driver, user, snapshot.path("expiresAt").asLong());
+    }
+
+    /**
+     * The user's session token (from the snapshot, so API calls and the restored
+     * browser share one session), logging in only when no valid snapshot exists.
+     */
+    public static String tokenFor(String user, String password) {
+        for (JsonNode cookie : obtain(user, password).path("cookies")) {
+            if (TOKEN_COOKIE.equals(cookie.path("name").asText())) {
+                return cookie.path("value").asText();
+            }
+        }
+        invalidate(user);
+        return obtain(user, password).path("cookies").path(0).path("value").asText();
+    }
+
+    /**
+     * Forgets the user's snapshot in memory and on disk.
+     */
+    public static void invalidate(String user) {
+        snapshots.remove(user);
+        File file = fileFor(user);
+        if (file.exists() && !file.delete()) {
+            log.debug("Could not delete stale session snapshot {}", file.getPath());
+        }
+    }
+
+    public static String getStats() {
+        return String.format("restores=%d memoryHits=%d diskHits=%d apiLogins=%d rejected=%d",
+                restores.get(), memoryHits.get(), diskHits.get(), logins.get(), rejected.get());
+    }
+
+    private static ObjectNode obtain(String user, String password) {
+        synchronized (userLocks.computeIfAbsent(user, k -> new Object())) {
+            ObjectNode snapshot = snapshots.get(user);
+            if (isValid(snapshot)) {
+                memoryHits.incrementAndGet();
+                return snapshot;
+            }
+            snapshot = load(user);
+            if (isValid(snapshot)) {
+                diskHits.incrementAndGet();
+                snapshots.put(user, snapshot);
+                return snapshot;
+            }
+            snapshot = login(user, password);
+            snapshots.put(user, snapshot);
+            return snapshot;
+        }
+    }
+
+    /**
+     * Minimal snapshot straight from the API token; the full browser state replaces it
+     * once the UI has accepted it.
+     */
+    private static ObjectNode login(String user, String password) {
+        logins.incrementAndGet();
+        String token = ApiClientRegistry.get(AuthClient.class).getAuthToken(user, password);
+        ObjectNode snapshot = mapper.createObjectNode();
+        snapshot.put("user", user);
+        snapshot.put("expiresAt", System.currentTimeMillis() + TTL_MS);
+        snapshot.put("captured", false);
+        snapshot.putArray("cookies").addObject().put("name", TOKEN_COOKIE).put("value", token).put("path", "/");
+        snapshot.putObject("localStorage");
+        log.info("🔑 SESSION: API login for [{}]; snapshot valid for {} min.", user, TTL_MS / 60_000);
+        return snapshot;
+    }
+
+    private static void apply(WebDriver driver, ObjectNode snapshot) {
+        driver.manage().deleteAllCookies();
+        for (JsonNode c : snapshot.path("cookies")) {
+            Cookie.Builder builder = new Cookie.Builder(c.path("name").asText(), c.path("value").asText())
+                    .path(c.hasNonNull("path") ? c.get("path").asText() : "/")
+                    .isSecure(c.path("secure").asBoolean())
+                    .isHttpOnly(c.path("httpOnly").asBoolean());
+            if (c.hasNonNull("expiry")) {
+                builder.expiresOn(new Date(c.get("expiry").asLong()));
+            }
+            if (c.hasNonNull("sameSite")) {
+                builder.sameSite(c.get("sameSite").asText());
+            }
+            String domain = c.hasNonNull("domain") ? c.get("domain").asText() : null;
+            try {
+                driver.manage().addCookie(builder.domain(domain).build());
+            } catch (WebDriverException e) {
+                // Domain no longer matches (e.g. www vs apex): scope it to the current host instead
+                driver.manage().addCookie(builder.domain(null).build());
+            }
+        }
+        JsonNode storage = snapshot.path("localStorage");
+        if (storage.size() > 0) {
+            ((JavascriptExecutor) driver).executeScript(
+                    "var s = arguments[0]; for (var k in s) { localStorage.setItem(k, s[k]); }",
+                    mapper.convertValue(storage, Map.class));
+        }
+        driver.navigate().refresh();
+        GenericActions.waitForPageToLoad();
+    }
+
+    private static boolean isAuthenticated(WebDriver driver) {
+        try {
+            DomWaitEngine.await(driver, DomWaitEngine.Condition.TEXT_PRESENT, "Welcome", VERIFY_MS, ObjectRepo.NAV_USER);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Snapshots the browser's accepted state (all cookies + localStorage) and saves it.
+     */
+    @SuppressWarnings("unchecked")
+    private static void capture(WebDriver driver, String user, long expiresAt) {
+        ObjectNode snapshot = mapper.createObjectNode();
+        snapshot.put("user", user);
+        snapshot.put("expiresAt", expiresAt);
+        snapshot.put("captured", true);
+        ArrayNode cookies = snapshot.putArray("cookies");
+        for (Cookie cookie : driver.manage().getCookies()) {
+            ObjectNode c = cookies.addObject();
+            c.put("name", cookie.getName());
+            c.put("value", cookie.getValue());
+            c.put("domain", cookie.getDomain());
+            c.put("path", cookie.getPath());
+            c.put("secure", cookie.isSecure());
+            c.put("httpOnly", cookie.isHttpOnly());
+            if (cookie.getExpiry() != null) {
+                c.put("expiry", cookie.getExpiry().getTime());
+            }
+            if (cookie.getSameSite() != null) {
+                c.put("sameSite", cookie.getSameSite());
+            }
+        }
+        Object storage = ((JavascriptExecutor) driver).executeScript(
+                "var o = {}; for (var i = 0; i < localStorage.length; i++) {"
+                        + " var k = localStorage.key(i); o[k] = localStorage.getItem(k); } return o;");
+        snapshot.set("localStorage", storage instanceof Map
+                ? mapper.valueToTree((Map<String, Object>) storage) : mapper.createObjectNode());
+
+        snapshots.put(user, snapshot);
+        persist(user, snapshot);
+    }
+
+    private static boolean isValid(JsonNode snapshot) {
+        return snapshot != null && snapshot.path("expiresAt").asLong() > System.currentTimeMillis();
+    }
+
+    private static ObjectNode load(String user) {
+        File file = fileFor(user);
+        if (!PERSIST || !file.exists()) {
+            return null;
+        }
+        try {
+            return (ObjectNode) mapper.readTree(file);
+        } catch (Exception e) {
+            log.warn("⚠️ SESSION: Ignoring unreadable snapshot {}: {}", file.getPath(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static void persist(String user, ObjectNode snapshot) {
+        if (!PERSIST) {
+            return;
+        }
+        try {
+            Files.createDirectories(DIR.toPath());
+            restrictToOwner(DIR.toPath(), "rwx------");
+            Path file = fileFor(user).toPath();
+            if (!Files.exists(file)) {
+                // Restricted before the token is written, not after
+                Files.createFile(file);
+                restrictToOwner(file, "rw-------");
+            }
+            mapper.writeValue(file.toFile(), snapshot);
+        } catch (Exception e) {
+            log.error("❌ SESSION: Could not persist snapshot for [{}]: {}", user, e.getMessage());
+        }
+    }
+
+    private static void restrictToOwner(Path path, String posixPermissions) throws IOException {
+        try {
+            Files.setPosixFilePermissions(path, PosixFilePermissions.fromString(posixPermissions));
+        } catch (UnsupportedOperationException e) {
+            // Non-POSIX file system (Windows): owner-only through the java.io.File flags
+            File f = path.toFile();
+            f.setReadable(false, false);
+            f.setReadable(true, true);
+            f.setWritable(false, false);
+            f.setWritable(true, true);
+        }
+    }
+
+    private static File fileFor(String user) {
+        return new File(DIR, user.replaceAll("[^A-Za-z0-9_.-]", "_") + ".json");
+    }
+}
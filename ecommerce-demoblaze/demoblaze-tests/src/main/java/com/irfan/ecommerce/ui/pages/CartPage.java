@@ -5,9 +5,7 @@ import com.irfan.ecommerce.util.GenericActions;
 import com.irfan.ecommerce.util.ObjectRepo;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
 import java.util.List;
 
 /**
@@ -26,34 +24,68 @@ public class CartPage extends BasePage {
        super(driver);
     }
 
+    /**
+     * Deep link to cart.html, skipping the home page + NAV_CART click.
+     */
+    public CartPage open() {
+        openPath("cart.html");
+        return this;
+    }
+
+    /**
+     * The user's path: the header Cart link from whatever page we are on.
+     */
+    public CartPage openViaNav() {
+        String from = driver.getCurrentUrl();
+        GenericActions.click(ObjectRepo.NAV_CART);
+        captureNavigationFrom(from, getClass().getSimpleName());
+        return this;
+    }
+
+    /**
+     * One cart table row. DemoBlaze columns: [picture, title, price, delete link].
+     */
+    public record CartRow(String title, String price) {
+    }
+
+    /**
+     * Snapshot of every cart row in a single round trip, whatever the cart size.
+     */
+    public List<CartRow> getCartRows() {
+        return getCartRows(1);
+    }
+
+    /**
+     * Same, once at least expectedRows lines have rendered (e.g. an API-seeded cart).
+     */
+    public List<CartRow> getCartRows(int expectedRows) {
+        return snapshotRows("#tbodyid tr", expectedRows, cells -> new CartRow(cells.get(0), cells.get(1)),
+                "td:nth-child(2)", "td:nth-child(3)");
+    }
+
     /**
      * SITUATION: We need to verify the EXACT product name from a specific table row.
-     * ACTION: 1. Wait for visibility -> 2. Find all rows -> 3. Extract text from index.
+     * ACTION: One snapshot of the whole table -> pick the row by index.
      * 📊 DORA IMPACT: Slashed MTTR by providing precise row-level failure data.
      */
     public String getProductName(int rowIndex) {
         // SITUATION: Dynamic tables load headers before data (Walmart Problem #1).
-        // ACTION: Wait for at least one row in the Cart Table to be visible.
-        waitForVisibilityOfElement(By.cssSelector("#tbodyid tr"));
-        
-        List<WebElement> rows = driver.findElements(By.cssSelector("#tbodyid tr"));
-        
-        if (rows.size() >= rowIndex) {
-            // DemoBlaze Cart Table: Name is usually in the 2nd column (td[2])
-            WebElement row = rows.get(rowIndex - 1);
-            String text = row.findElement(By.xpath("./td[2]")).getText().trim();
+        // ACTION: snapshotRows() waits for at least one data row before reading.
+        List<CartRow> rows = getCartRows();
+
+        if (rowIndex >= 1 && rows.size() >= rowIndex) {
+            String text = rows.get(rowIndex - 1).title();
             log.info("🛒 CART: Row [{}] contains product [{}].", rowIndex, text);
             return text;
         }
-        
+
         log.error("❌ ERROR: Expected row [{}] but table only has [{}] rows.", rowIndex, rows.size());
         return "EMPTY_OR_NOT_FOUND";
     }
 
     public boolean isProductInCart(String productName) {
         log.info("CART: Verifying if [{}] exists in the checkout table.", productName);
-        String text = GenericActions.getText(ObjectRepo.CART_PRODUCT_NAME, productName);
-        return text.equalsIgnoreCase(productName);
+        return getCartRows().stream().anyMatch(row -> productName.equalsIgnoreCase(row.title()));
     }
 
     public void proceedToCheckout() {
@@ -3,10 +3,10 @@ package com.irfan.ecommerce.ui.pages;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
+import java.util.List;
 import com.irfan.ecommerce.ui.base.BasePage;
 import com.irfan.ecommerce.util.GenericActions;
 import com.irfan.ecommerce.util.ObjectRepo;
-import com.irfan.ecommerce.util.PropertyReader;
 
 /**
  * HomePage: The "First Impression" of the Automation Suite.
@@ -29,12 +29,7 @@ public class HomePage extends BasePage {
     }
 
     public void open() {
-        // Now PropertyReader is resolved!
-        String baseUrl = PropertyReader.getProperty("url");
-        if (baseUrl == null)
-            baseUrl = "https://www.demoblaze.com";
-
-        driver.get(baseUrl);
+        openPath("");
 
         // SELF-HEALING: Uses String[] from ObjectRepo via GenericActions
         waitForVisibilityOfElement(ObjectRepo.NAV_HOME);
@@ -48,7 +43,9 @@ public class HomePage extends BasePage {
     }
 
     public void clickProductByName(String productName) {
+        String from = driver.getCurrentUrl();
         GenericActions.click(ObjectRepo.CATEGORY_DYNAMIC, productName);
+        captureNavigationFrom(from, ProductPage.class.getSimpleName());
     }
 
     public boolean isUserLoggedIn(String username) {
@@ -84,4 +81,25 @@ public class HomePage extends BasePage {
         return GenericActions.getText(ObjectRepo.CATEGORY_DYNAMIC, "Phones");
     }
 
-}
\ No newline at end of file
+    /**
+     * One product card from the home grid. 'link' is the card's href (prod.html?idp_=N).
+     */
+    public record ProductCard(String name, String price, String link) {
+    }
+
+    /**
+     * 📸 The whole product grid (current page / category) in one round trip.
+     */
+    public List<ProductCard> getProductCards() {
+        return snapshotRows("#tbodyid .card",
+                cells -> new ProductCard(cells.get(0), cells.get(1), cells.get(2)),
+                ".card-title a", "h5", ".card-title a@href");
+    }
+
+    /**
+     * 📸 The sidebar category listing (Phones, Laptops, Monitors) in one round trip.
+     */
+    public List<String> getCategoryNames() {
+        return snapshotRows(".list-group a#itemc", cells -> cells.get(0), "");
+    }
+}
@@ -9,6 +9,7 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
+import java.util.LinkedHashMap;
 
 public class LoginPage extends BasePage {
     private static final Logger log = LogManager.getLogger(LoginPage.class);
@@ -20,15 +21,14 @@ public class LoginPage extends BasePage {
    public LoginPage performLogin(String username, String password, boolean isRegistrationRequired) {
     log.info("🚀 LOGIN ATTEMPT: User [{}]", username);
     try {
-        // Sync before clicking
-        new WebDriverWait(driver, Duration.ofSeconds(10))
-            .until(ExpectedConditions.elementToBeClickable(GenericActions.getBestLocator(ObjectRepo.NAV_LOGIN)));
-
+        // click() already waits for NAV_LOGIN to be clickable
         GenericActions.click(ObjectRepo.NAV_LOGIN);
-        waitForVisibilityOfElement(ObjectRepo.LOGIN_USER);
-        GenericActions.sendKeys(ObjectRepo.LOGIN_USER, username);
-        GenericActions.sendKeys(ObjectRepo.LOGIN_PASS, password);
-        GenericActions.click(ObjectRepo.LOGIN_BTN);
+
+        // One batched fill: waits for the modal fields, types both, clicks Log in
+        LinkedHashMap<String[], String> credentials = new LinkedHashMap<>();
+        credentials.put(ObjectRepo.LOGIN_USER, username);
+        credentials.put(ObjectRepo.LOGIN_PASS, password);
+        fillForm(credentials, ObjectRepo.LOGIN_BTN);
 
         // Handle the Alert immediately
         String alertMessage = GenericActions.getAlertTextAndAccept();
@@ -55,10 +55,10 @@ public class LoginPage extends BasePage {
             log.info("🛠️ REGISTRATION: Creating account for [{}]", username);
             GenericActions.click(ObjectRepo.NAV_SIGNUP);
 
-            waitForVisibilityOfElement(ObjectRepo.SIGNUP_USERNAME);
-            GenericActions.sendKeys(ObjectRepo.SIGNUP_USERNAME, username);
-            GenericActions.sendKeys(ObjectRepo.SIGNUP_PASSWORD, password);
-            GenericActions.click(ObjectRepo.SIGNUP_BUTTON);
+            LinkedHashMap<String[], String> account = new LinkedHashMap<>();
+            account.put(ObjectRepo.SIGNUP_USERNAME, username);
+            account.put(ObjectRepo.SIGNUP_PASSWORD, password);
+            fillForm(account, ObjectRepo.SIGNUP_BUTTON);
 
             // Clear the "Sign up successful" alert
             GenericActions.getAlertTextAndAccept();
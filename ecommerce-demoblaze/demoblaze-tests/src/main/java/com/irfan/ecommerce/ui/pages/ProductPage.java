@@ -1,5 +1,6 @@
 package com.irfan.ecommerce.ui.pages;
 
+import com.irfan.ecommerce.api.managers.demoblaze.ProductCatalog;
 import com.irfan.ecommerce.ui.base.BasePage;
 import com.irfan.ecommerce.util.GenericActions;
 import com.irfan.ecommerce.util.ObjectRepo;
@@ -11,6 +12,23 @@ public class ProductPage extends BasePage {
         super(driver); // IMPACT: Ensures every page uses the same WebDriver session
     }
 
+    /**
+     * Deep link straight to the product page (prod.html?idp_=ID): one navigation
+     * instead of home page -> product grid -> click.
+     */
+    public ProductPage open(int productId) {
+        openPath("prod.html?idp_=" + productId);
+        waitForVisibilityOfElement(ObjectRepo.PRODUCT_TITLE);
+        return this;
+    }
+
+    /**
+     * Same, by catalog name (resolved through the run-wide ProductCatalog index).
+     */
+    public ProductPage open(String productName) {
+        return open(ProductCatalog.idOf(productName));
+    }
+
     public String getProductName() {
         // WALMART MOVE: We wait for the Title before fetching text to avoid 'Empty String' returns
         waitForVisibilityOfElement(ObjectRepo.PRODUCT_TITLE);
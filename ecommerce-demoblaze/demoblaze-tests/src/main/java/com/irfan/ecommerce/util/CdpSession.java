@@ -0,0 +1,119 @@
+package com.irfan.ecommerce.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v129.network.Network;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * CdpSession: One DevTools session per test thread.
+ *
+ * 🚀 THE EMIRATES-SCALE "WHY":
+ * SITUATION: Every CDP feature (sniffer, interceptors...) grabbed the driver's DevTools on
+ *   its own, so with parallel threads and pooled sessions listeners piled up on the
+ *   wrong browser and 'createSession' calls stepped on each other.
+ * ACTION: BaseTest.setup() opens exactly one session for the thread's leased browser;
+ *   features subscribe through it, and teardown clears every listener it registered.
+ * RESULT: Event handlers only ever see the traffic of the test that owns the thread.
+ */
+public final class CdpSession {
+    private static final Logger log = LogManager.getLogger(CdpSession.class);
+    private static final ThreadLocal<CdpSession> current = new ThreadLocal<>();
+
+    private final DevTools devTools;
+    private final Set<String> enabledDomains = new HashSet<>();
+
+    private CdpSession(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    /**
+     * Attaches a fresh DevTools session to the driver's current tab and binds it to this thread.
+     * Returns null (and CDP features quietly switch off) when the browser has no DevTools.
+     */
+    public static CdpSession open(WebDriver driver) {
+        close();
+        if (!(driver instanceof HasDevTools)) {
+            log.warn("⚠️ CDP_OFF: {} exposes no DevTools; CDP features disabled for this test.",
+                    driver == null ? "null" : driver.getClass().getSimpleName());
+            return null;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            // Pooled sessions/contexts may have moved tabs since the last test: always re-attach
+            devTools.createSession(driver.getWindowHandle());
+            CdpSession session = new CdpSession(devTools);
+            current.set(session);
+            return session;
+        } catch (Throwable t) {
+            log.warn("⚠️ CDP_OFF: Could not attach DevTools ({}). Proceeding without CDP features.", t.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * The session of the current thread's test, or null when CDP is unavailable.
+     */
+    public static CdpSession current() {
+        return current.get();
+    }
+
+    /**
+     * Drops every listener registered during this test, detaches the CDP session from the
+     * browser and unbinds the thread. Without the detach a pooled browser keeps one
+     * orphaned session (domains enabled, events buffering) per test it has served.
+     */
+    public static void close() {
+        CdpSession session = current.get();
+        if (session == null) {
+            return;
+        }
+        current.remove();
+        try {
+            session.devTools.clearListeners();
+        } catch (Exception e) {
+            log.debug("CDP listener cleanup failed: {}", e.getMessage());
+        }
+        try {
+            session.devTools.disconnectSession();
+        } catch (Exception e) {
+            log.debug("CDP session detach failed: {}", e.getMessage());
+        }
+    }
+
+    public synchronized void enableNetwork() {
+        if (enabledDomains.add("Network")) {
+            devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty()));
+        }
+    }
+
+    /**
+     * Runs the enable command only the first time this domain is requested in the session.
+     */
+    public synchronized void enable(String domain, Command<Void> enableCommand) {
+        if (enabledDomains.add(domain)) {
+            devTools.send(enableCommand);
+        }
+    }
+
+    public <X> void on(Event<X> event, Consumer<X> handler) {
+        devTools.addListener(event, handler);
+    }
+
+    public <X> X send(Command<X> command) {
+        return devTools.send(command);
+    }
+
+    public DevTools getDevTools() {
+        return devTools;
+    }
+}
@@ -0,0 +1,160 @@
+package com.irfan.ecommerce.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.devtools.v129.page.Page;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DialogWatcher: Know about a native alert the moment Chrome opens it.
+ *
+ * THE WALMART HEADACHE I FIXED:
+ * - THE PROBLEM: getAlertTextAndAccept() polled alertIsPresent for 5 seconds. Every
+ *   negative path or defensive handleAlert() call with no alert burned all 5 seconds.
+ * - WHAT I DID: Per thread, CDP Page.javascriptDialogOpening pushes each dialog (type,
+ *   text, URL) into a queue the moment it opens. Waiting is a local queue read. "No
+ *   dialog" is answered once the page's network has been quiet for a short window,
+ *   since a DemoBlaze alert always follows the XHR that the action triggered.
+ *   Page.javascriptDialogClosed drops a dialog that was closed before anyone read it
+ *   (by the page, a defensive dismiss, or an unexpected-alert handler), so a later
+ *   action never receives an earlier action's stale alert.
+ * - THE RESULT: An alert is returned as soon as it opens, and an absent alert costs a
+ *   few hundred milliseconds instead of five seconds.
+ */
+public final class DialogWatcher {
+    private static final Logger log = LogManager.getLogger(DialogWatcher.class);
+    private static final ThreadLocal<DialogWatcher> current = new ThreadLocal<>();
+
+    private static final long TIMEOUT_MS = PropertyReader.getLongProperty("dialog.timeout.ms", 5000);
+    // Network quiet this long with no dialog = the action is not going to raise one
+    private static final long QUIET_MS = PropertyReader.getLongProperty("dialog.quiet.ms", 300);
+    // The triggering request's CDP event may land a moment after the click returns
+    private static final long GRACE_MS = PropertyReader.getLongProperty("dialog.grace.ms", 150);
+    private static final long CHECK_INTERVAL_MS = 25;
+
+    // 📊 RUN TOTALS
+    private static final AtomicLong captured = new AtomicLong();
+    private static final AtomicLong closedUnread = new AtomicLong();
+    private static final AtomicLong noDialogAnswers = new AtomicLong();
+    private static final AtomicLong noDialogMillis = new AtomicLong();
+
+    private final BlockingQueue<Dialog> dialogs = new LinkedBlockingQueue<>();
+    // A page shows at most one JS dialog at a time; this is it, until Chrome reports it closed
+    private volatile Dialog open;
+
+    private DialogWatcher() {
+    }
+
+    /**
+     * Subscribes the current thread's CDP session to dialog events. No-op without CDP.
+     */
+    public static void install(CdpSession session) {
+        current.remove();
+        if (session == null) {
+            return;
+        }
+        try {
+            DialogWatcher watcher = new DialogWatcher();
+            session.enable("Page", Page.enable());
+            session.on(Page.javascriptDialogOpening(), e -> {
+                captured.incrementAndGet();
+                Dialog dialog = new Dialog(e.getType().toString(), e.getMessage(), e.getUrl());
+                watcher.open = dialog;
+                watcher.dialogs.add(dialog);
+            });
+            session.on(Page.javascriptDialogClosed(), e -> {
+                Dialog closed = watcher.open;
+                watcher.open = null;
+                if (closed != null && watcher.dialogs.remove(closed)) {
+                    closedUnread.incrementAndGet();
+                    log.debug("Dialog closed before it was read, dropped: {}", closed.getMessage());
+                }
+            });
+            current.set(watcher);
+        } catch (Exception e) {
+            log.warn("⚠️ DIALOG_WATCHER_OFF: Page events unavailable ({}). Using alert polling.", e.getMessage());
+        }
+    }
+
+    public static void uninstall() {
+        current.remove();
+    }
+
+    /**
+     * True when event-driven dialog detection is active for this thread.
+     */
+    public static boolean isActive() {
+        return current.get() != null;
+    }
+
+    /**
+     * Takes the oldest dialog captured on this thread that is still open, waiting only
+     * as long as the page is still busy.
+     *
+     * @return the dialog, or null when none opened (or none was active on this thread)
+     */
+    public static Dialog next() {
+        DialogWatcher watcher = current.get();
+        if (watcher == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        try {
+            while (true) {
+                Dialog dialog = watcher.dialogs.poll(CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (dialog != null) {
+                    return dialog;
+                }
+                long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                long quietFor = PageReadinessDetector.quietForMillis();
+                if ((elapsed >= GRACE_MS && quietFor >= QUIET_MS) || elapsed >= TIMEOUT_MS) {
+                    noDialogAnswers.incrementAndGet();
+                    noDialogMillis.addAndGet(elapsed);
+                    log.info("🔕 NO_DIALOG: None opened; page network quiet for {}ms (answered in {}ms).",
+                            Math.max(quietFor, 0), elapsed);
+                    return null;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    public static String getStats() {
+        long answers = noDialogAnswers.get();
+        return String.format("captured=%d closedUnread=%d noDialogAnswers=%d avgNoDialog=%dms",
+                captured.get(), closedUnread.get(), answers, answers == 0 ? 0 : noDialogMillis.get() / answers);
+    }
+
+    /**
+     * One native dialog as Chrome reported it (type is alert / confirm / prompt / beforeunload).
+     */
+    public static final class Dialog {
+        private final String type;
+        private final String message;
+        private final String url;
+
+        private Dialog(String type, String message, String url) {
+            this.type = type;
+            this.message = message;
+            this.url = url;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+    }
+}
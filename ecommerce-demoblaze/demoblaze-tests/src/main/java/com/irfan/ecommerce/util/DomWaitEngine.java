@@ -0,0 +1,188 @@
+package com.irfan.ecommerce.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DomWaitEngine: Waits that wake up on DOM changes instead of on a 500ms timer.
+ *
+ * 🚀 THE WALMART-SCALE "WHY":
+ * SITUATION: Every action built a fresh WebDriverWait that polled every 500ms, one
+ *   round trip per poll, so each wait paid ~250ms of pure polling latency on average.
+ * ACTION: One async script installs a MutationObserver (plus a 100ms in-page tick for
+ *   CSS-only changes the observer cannot see) and calls back the moment the condition
+ *   holds. Plain WebDriver polling is only used when script injection fails.
+ * RESULT: A satisfied wait now costs one round trip and near-zero added latency.
+ */
+public final class DomWaitEngine {
+    private static final Logger log = LogManager.getLogger(DomWaitEngine.class);
+    private static final long SCRIPT_TIMEOUT_HEADROOM_MS = 2000;
+    private static final long FALLBACK_POLL_MS = 250;
+
+    public enum Condition { VISIBLE, CLICKABLE, TEXT_PRESENT, GONE }
+
+    /**
+     * arguments: [specs, condition, text, timeoutMs, callback]. Calls back with
+     * [index, element] ([-1, null] for GONE) or null when the in-page deadline passes.
+     */
+    private static final String WAIT_JS =
+            "var specs = arguments[0], cond = arguments[1], text = arguments[2], timeout = arguments[3],"
+            + "    done = arguments[arguments.length - 1];"
+            + SmartLocatorResolver.LOCATOR_LIB
+            + "function check() {"
+            + "  var anyVisible = false;"
+            + "  for (var i = 0; i < specs.length; i++) {"
+            + "    var list;"
+            + "    try { list = find(specs[i][0], specs[i][1]); } catch (e) { continue; }"
+            + "    for (var j = 0; j < list.length; j++) {"
+            + "      var el = list[j];"
+            + "      if (!visible(el)) continue;"
+            + "      anyVisible = true;"
+            + "      if (cond === 'VISIBLE') return [i, el];"
+            + "      if (cond === 'CLICKABLE' && !el.disabled && window.getComputedStyle(el).pointerEvents !== 'none') return [i, el];"
+            + "      if (cond === 'TEXT_PRESENT' && (el.innerText || el.textContent || '').indexOf(text) >= 0) return [i, el];"
+            + "    }"
+            + "  }"
+            + "  return (cond === 'GONE' && !anyVisible) ? [-1, null] : null;"
+            + "}"
+            + "var first = check();"
+            + "if (first) { done(first); return; }"
+            + "var finished = false, observer, ticker, deadline;"
+            + "function finish(result) {"
+            + "  if (finished) return;"
+            + "  finished = true;"
+            + "  observer.disconnect(); clearInterval(ticker); clearTimeout(deadline);"
+            + "  done(result);"
+            + "}"
+            + "function recheck() { var r = check(); if (r) finish(r); }"
+            + "observer = new MutationObserver(recheck);"
+            + "observer.observe(document.documentElement,"
+            + "    {childList: true, subtree: true, attributes: true, characterData: true});"
+            + "ticker = setInterval(recheck, 100);"
+            + "deadline = setTimeout(function () { finish(null); }, timeout);";
+
+    // Script timeout currently configured per session, so we only pay that round trip once
+    private static final Map<WebDriver, Long> scriptTimeouts = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // 📊 WAIT METRICS
+    private static final AtomicLong waits = new AtomicLong();
+    private static final AtomicLong totalWaitMillis = new AtomicLong();
+    private static final AtomicLong fallbacks = new AtomicLong();
+
+    private DomWaitEngine() {
+        throw new IllegalStateException("Utility class - instantiation is not allowed.");
+    }
+
+    /**
+     * Blocks until one of the ObjectRepo locators satisfies the condition.
+     *
+     * @return the matching element (null for GONE)
+     * @throws TimeoutException when the condition does not hold within the timeout
+     */
+    public static WebElement await(WebDriver driver, Condition condition, String text, long timeoutMillis,
+                                   String[] locators, String... replacements) {
+        long start = System.currentTimeMillis();
+        try {
+            return awaitWithObserver(driver, condition, text, timeoutMillis, locators, replacements);
+        } catch (TimeoutException e) {
+            throw e;
+        } catch (WebDriverException | ClassCastException e) {
+            fallbacks.incrementAndGet();
+            long remaining = Math.max(0, timeoutMillis - (System.currentTimeMillis() - start));
+            log.debug("⚠️ WAIT_ENGINE: Observer unavailable ({}), polling for the remaining {}ms.",
+                    e.getMessage(), remaining);
+            return awaitByPolling(driver, condition, text, remaining, locators, replacements);
+        } finally {
+            waits.incrementAndGet();
+            totalWaitMillis.addAndGet(System.currentTimeMillis() - start);
+        }
+    }
+
+    public static String getStats() {
+        long count = waits.get();
+        return String.format("waits=%d avg=%dms pollingFallbacks=%d",
+                count, count == 0 ? 0 : totalWaitMillis.get() / count, fallbacks.get());
+    }
+
+    private static WebElement awaitWithObserver(WebDriver driver, Condition condition, String text, long timeoutMillis,
+                                                String[] locators, String... replacements) {
+        ensureScriptTimeout(driver, timeoutMillis + SCRIPT_TIMEOUT_HEADROOM_MS);
+        Object result;
+        try {
+            result = ((JavascriptExecutor) driver).executeAsyncScript(WAIT_JS,
+                    SmartLocatorResolver.toSpecs(locators, replacements), condition.name(),
+                    text == null ? "" : text, timeoutMillis);
+        } catch (ScriptTimeoutException e) {
+            throw timeout(condition, timeoutMillis, locators);
+        }
+        if (!(result instanceof List)) {
+            throw timeout(condition, timeoutMillis, locators);
+        }
+        return (WebElement) ((List<?>) result).get(1);
+    }
+
+    /**
+     * Plain WebDriver fallback (no script injection at all), same semantics as WAIT_JS.
+     */
+    private static WebElement awaitByPolling(WebDriver driver, Condition condition, String text, long timeoutMillis,
+                                             String[] locators, String... replacements) {
+        List<By> candidates = new ArrayList<>();
+        for (String locator : locators) {
+            candidates.add(SmartLocatorResolver.toBy(SmartLocatorResolver.toSpec(locator, replacements)));
+        }
+        try {
+            return new WebDriverWait(driver, Duration.ofMillis(Math.max(timeoutMillis, FALLBACK_POLL_MS)),
+                    Duration.ofMillis(FALLBACK_POLL_MS))
+                    .ignoring(StaleElementReferenceException.class)
+                    .until(d -> {
+                        boolean anyVisible = false;
+                        for (By by : candidates) {
+                            for (WebElement el : d.findElements(by)) {
+                                if (!el.isDisplayed()) {
+                                    continue;
+                                }
+                                anyVisible = true;
+                                if (condition == Condition.VISIBLE
+                                        || (condition == Condition.CLICKABLE && el.isEnabled())
+                                        || (condition == Condition.TEXT_PRESENT && el.getText().contains(text))) {
+                                    return Collections.singletonList(el);
+                                }
+                            }
+                        }
+                        return condition == Condition.GONE && !anyVisible ? Collections.<WebElement>singletonList(null) : null;
+                    }).get(0);
+        } catch (TimeoutException e) {
+            throw timeout(condition, timeoutMillis, locators);
+        }
+    }
+
+    static void ensureScriptTimeout(WebDriver driver, long neededMillis) {
+        Long current = scriptTimeouts.get(driver);
+        if (current == null || current < neededMillis) {
+            driver.manage().timeouts().scriptTimeout(Duration.ofMillis(neededMillis));
+            scriptTimeouts.put(driver, neededMillis);
+        }
+    }
+
+    private static TimeoutException timeout(Condition condition, long timeoutMillis, String[] locators) {
+        return new TimeoutException("Condition " + condition + " not met within " + timeoutMillis
+                + "ms for locators: " + String.join(", ", locators));
+    }
+}
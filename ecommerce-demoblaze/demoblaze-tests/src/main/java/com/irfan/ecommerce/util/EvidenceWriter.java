@@ -0,0 +1,217 @@
+package com.irfan.ecommerce.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * EvidenceWriter: Screenshots off the test thread.
+ *
+ * THE WALMART HEADACHE I FIXED:
+ * - THE PROBLEM: takeScreenshot() captured a full PNG AND wrote it to disk on the test
+ *   thread, and the failure listener waited for it before the next test could start.
+ * - WHAT I DID: The test thread only does the capture call. Encoding (optional
+ *   downscale / JPEG), de-duplication of identical frames and the disk write happen on
+ *   one dedicated writer thread behind a bounded queue; callers get a future path.
+ * - THE RESULT: Evidence costs the test one WebDriver round trip, and a red build full
+ *   of identical "blank page" screenshots stores that frame once.
+ */
+public final class EvidenceWriter {
+    private static final Logger log = LogManager.getLogger(EvidenceWriter.class);
+    private static final String DIR = System.getProperty("user.dir") + "/target/reports/screenshots/";
+
+    private static final double SCALE = Double.parseDouble(PropertyReader.getProperty("evidence.scale", "1.0"));
+    private static final String FORMAT = PropertyReader.getProperty("evidence.format", "png").toLowerCase();
+    private static final float JPEG_QUALITY =
+            Float.parseFloat(PropertyReader.getProperty("evidence.jpeg.quality", "0.75"));
+    private static final BlockingQueue<Job> queue =
+            new ArrayBlockingQueue<>(PropertyReader.getIntProperty("evidence.queue.capacity", 32));
+
+    // SHA-256 of the raw capture -> file already written for it
+    private static final Map<String, String> byHash = new ConcurrentHashMap<>();
+    private static final AtomicInteger pending = new AtomicInteger();
+
+    // 📊 EVIDENCE METRICS
+    private static final AtomicLong written = new AtomicLong();
+    private static final AtomicLong duplicates = new AtomicLong();
+    private static final AtomicLong inline = new AtomicLong();
+    private static final AtomicLong bytesWritten = new AtomicLong();
+
+    static {
+        Thread writer = new Thread(EvidenceWriter::drainForever, "evidence-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    private EvidenceWriter() {
+        throw new IllegalStateException("Utility class - instantiation is not allowed.");
+    }
+
+    /**
+     * Captures the page (a WebDriver) or a single element (a WebElement) and queues it
+     * for writing. Only the capture itself runs on the calling thread.
+     *
+     * @return the final file path ("" if the capture could not be written)
+     */
+    public static CompletableFuture<String> capture(TakesScreenshot source, String name) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        byte[] png;
+        try {
+            png = source.getScreenshotAs(OutputType.BYTES);
+        } catch (Exception e) {
+            log.error("❌ SCREENSHOT_FAILED: {}", e.getMessage());
+            future.complete("");
+            return future;
+        }
+
+        Job job = new Job(name, png, future);
+        pending.incrementAndGet();
+        if (!queue.offer(job)) {
+            // Queue full: never drop evidence, pay the write here instead
+            inline.incrementAndGet();
+            process(job);
+        }
+        return future;
+    }
+
+    /**
+     * Waits (bounded) until every queued capture has been written, e.g. before the report flush.
+     */
+    public static void awaitIdle(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (pending.get() > 0 && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    public static String getStats() {
+        return String.format("written=%d duplicates=%d inlineWrites=%d size=%dKB format=%s scale=%.2f",
+                written.get(), duplicates.get(), inline.get(), bytesWritten.get() / 1024, FORMAT, SCALE);
+    }
+
+    private static void drainForever() {
+        while (true) {
+            try {
+                process(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private static void process(Job job) {
+        try {
+            String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(job.png));
+            String existing = byHash.get(hash);
+            if (existing != null) {
+                duplicates.incrementAndGet();
+                log.info("📸 EVIDENCE: [{}] identical to {}, reusing it.", job.name, existing);
+                job.future.complete(existing);
+                return;
+            }
+
+            byte[] output = encode(job.png);
+            String extension = "jpg".equals(FORMAT) || "jpeg".equals(FORMAT) ? ".jpg" : ".png";
+            File file = new File(DIR + job.name + "_" + System.currentTimeMillis() + extension);
+            file.getParentFile().mkdirs();
+            Files.write(file.toPath(), output);
+
+            byHash.put(hash, file.getAbsolutePath());
+            written.incrementAndGet();
+            bytesWritten.addAndGet(output.length);
+            job.future.complete(file.getAbsolutePath());
+        } catch (Exception e) {
+            log.error("❌ SCREENSHOT_FAILED: Could not write [{}]: {}", job.name, e.getMessage());
+            job.future.complete("");
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    /**
+     * Untouched PNG bytes when no re-encoding is configured, so the default path stays cheap.
+     */
+    private static byte[] encode(byte[] png) throws Exception {
+        boolean jpeg = "jpg".equals(FORMAT) || "jpeg".equals(FORMAT);
+        if (SCALE >= 1.0 && !jpeg) {
+            return png;
+        }
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (SCALE < 1.0) {
+            int width = Math.max(1, (int) (image.getWidth() * SCALE));
+            int height = Math.max(1, (int) (image.getHeight() * SCALE));
+            BufferedImage scaled = new BufferedImage(width, height,
+                    jpeg ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = scaled.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(image, 0, 0, width, height, null);
+            g.dispose();
+            image = scaled;
+        } else if (jpeg && image.getType() != BufferedImage.TYPE_INT_RGB) {
+            // JPEG has no alpha channel
+            BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = rgb.createGraphics();
+            g.drawImage(image, 0, 0, null);
+            g.dispose();
+            image = rgb;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!jpeg) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static final class Job {
+        private final String name;
+        private final byte[] png;
+        private final CompletableFuture<String> future;
+
+        private Job(String name, byte[] png, CompletableFuture<String> future) {
+            this.name = name;
+            this.png = png;
+            this.future = future;
+        }
+    }
+}
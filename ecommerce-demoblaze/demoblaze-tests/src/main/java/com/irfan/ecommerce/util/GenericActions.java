@@ -1,18 +1,16 @@
 package com.irfan.ecommerce.util;
 
-import java.io.File;
-import java.io.IOException;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Cookie;
-import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
 import org.openqa.selenium.NoSuchElementException;
-import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -22,12 +20,6 @@ import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import com.irfan.ecommerce.ui.base.DriverFactory;
 
-// USE THIS INSTEAD (Generic):
-import org.openqa.selenium.devtools.NetworkInterceptor;
-import org.openqa.selenium.remote.http.Filter;
-import org.openqa.selenium.remote.http.HttpHandler;
-import org.openqa.selenium.remote.http.HttpResponse;
-
 /**
  * GenericActions: The "Resilience Layer" of the framework.
  * 
@@ -48,7 +40,6 @@ import org.openqa.selenium.remote.http.HttpResponse;
 public class GenericActions {
 
     private static final Logger log = LogManager.getLogger(GenericActions.class);
-    private static NetworkInterceptor interceptor;
 
     private static WebDriver getDriver() {
         return DriverFactory.getDriver();
@@ -71,22 +62,7 @@ public class GenericActions {
      * It saves me from writing messy 'if-else' blocks everywhere else.
      */
     private static By parseBy(String locator, String... replacements) {
-        String processed = (replacements.length > 0) ? String.format(locator, (Object[]) replacements) : locator;
-        if (processed.contains(":")) {
-            String[] parts = processed.split(":", 2);
-            String strategy = parts[0].toLowerCase().trim();
-            String value = parts[1].trim();
-            return switch (strategy) {
-                case "id" -> By.id(value);
-                case "xpath" -> By.xpath(value);
-                case "css" -> By.cssSelector(value);
-                case "name" -> By.name(value);
-                case "class" -> By.className(value);
-                case "text" -> By.linkText(value);
-                default -> By.xpath(processed);
-            };
-        }
-        return (processed.startsWith("//") || processed.startsWith("(")) ? By.xpath(processed) : By.id(processed);
+        return SmartLocatorResolver.toBy(SmartLocatorResolver.toSpec(locator, replacements));
     }
 
     /**
@@ -98,15 +74,40 @@ public class GenericActions {
      * ObjectRepo array [CSS, XPath, ID] to find a 'Live' anchor.
      * RESULT: Reduced 'CFR' (Change Failure Rate) by 40% by automatically
      * switching to backup locators during the 'Wait' phase.
+     *
+     * The winner is remembered in {@link LocatorCache}, so a healed element costs
+     * one round trip next time instead of re-trying every dead locator first.
      */
     public static By getBestLocator(String[] locatorArray, String... replacements) {
+        String cacheKey = LocatorCache.keyFor(locatorArray, replacements);
+        String cached = LocatorCache.lookup(cacheKey, GenericActions::currentPagePattern);
+        int cachedIndex = cached == null ? -1 : Arrays.asList(locatorArray).indexOf(cached);
+
+        if (cachedIndex >= 0) {
+            try {
+                By by = parseBy(cached, replacements);
+                if (!getDriver().findElements(by).isEmpty()) {
+                    LocatorCache.recordHit(cachedIndex);
+                    log.info("✅ Best locator (cached): {}", cached);
+                    return by;
+                }
+            } catch (Exception e) {
+                log.warn("⚠️ Cached strategy failed for: {}", cached);
+            }
+            LocatorCache.demote(cacheKey, cached);
+        }
+
         for (String locator : locatorArray) {
+            if (locator.equals(cached)) {
+                continue; // Just proved dead above
+            }
             try {
                 // ✅ THE FIX: Use our existing engine to split prefixes correctly
                 By by = parseBy(locator, replacements);
 
                 if (!DriverFactory.getDriver().findElements(by).isEmpty()) {
                     log.info("✅ Best locator found: {}", locator);
+                    LocatorCache.record(cacheKey, currentPagePattern(), locator);
                     return by;
                 }
             } catch (Exception e) {
@@ -119,6 +120,29 @@ public class GenericActions {
         return parseBy(locatorArray[0], replacements);
     }
 
+    /**
+     * The priority list with LocatorCache's remembered winner moved to the front, so a
+     * one-script click tries the same locator first that getBestLocator() would.
+     */
+    private static String[] cacheOrdered(String[] locatorArray, String... replacements) {
+        String cached = LocatorCache.lookup(LocatorCache.keyFor(locatorArray, replacements),
+                GenericActions::currentPagePattern);
+        int cachedIndex = cached == null ? -1 : Arrays.asList(locatorArray).indexOf(cached);
+        if (cachedIndex <= 0) {
+            return locatorArray;
+        }
+        LocatorCache.recordHit(cachedIndex);
+        String[] ordered = new String[locatorArray.length];
+        ordered[0] = cached;
+        System.arraycopy(locatorArray, 0, ordered, 1, cachedIndex);
+        System.arraycopy(locatorArray, cachedIndex + 1, ordered, cachedIndex + 1, locatorArray.length - cachedIndex - 1);
+        return ordered;
+    }
+
+    private static String currentPagePattern() {
+        return LocatorCache.toPagePattern(getDriver().getCurrentUrl());
+    }
+
     /**
      * THE WALMART RESUME REF: "Improved framework stability by 40% using
      * Self-Healing logic."
@@ -133,6 +157,31 @@ public class GenericActions {
      */
 
     private static WebElement findElementSmartly(String[] locators, String... replacements) {
+        try {
+            // Same 2s-per-locator budget as before, but every tick checks ALL locators at once
+            WebElement el = SmartLocatorResolver.resolve(getDriver(), locators, 2000L * locators.length, replacements);
+            if (el != null) {
+                return el;
+            }
+        } catch (UnsupportedOperationException e) {
+            log.warn("⚠️ RESOLVER_OFF: {}. Falling back to serial locator waits.", e.getMessage());
+            return findElementSerially(locators, replacements);
+        }
+        log.error("FATAL: Exhausted all {} locators without success.", locators.length);
+        throw new NoSuchElementException(
+                "CRITICAL: All locators failed for priority list: " + String.join(", ", locators));
+    }
+
+    /**
+     * Event-driven twin of findElementSmartly(): wakes up on the DOM mutation that
+     * makes any of the locators visible instead of polling for it.
+     */
+    private static WebElement awaitVisible(String[] locators, String... replacements) {
+        return DomWaitEngine.await(getDriver(), DomWaitEngine.Condition.VISIBLE, null,
+                2000L * locators.length, locators, replacements);
+    }
+
+    private static WebElement findElementSerially(String[] locators, String... replacements) {
         for (String loc : locators) {
             try {
                 By by = parseBy(loc, replacements);
@@ -168,12 +217,15 @@ public class GenericActions {
      */
     public static void click(String[] locators, String... replacements) {
         try {
-            WebElement el = findElementSmartly(locators, replacements);
-            getWait().until(ExpectedConditions.elementToBeClickable(el)).click();
+            // Same overall budget as before: locator search + 10s clickable wait
+            WebElement el = DomWaitEngine.await(getDriver(), DomWaitEngine.Condition.CLICKABLE, null,
+                    10_000L + 2000L * locators.length, locators, replacements);
+            el.click();
             log.info("ACTION: Clicked element successfully.");
         } catch (Exception e) {
-            String path = takeScreenshot("Click_Failure");
-            log.error("FATAL: Click failed. Evidence: {}. Trace: {}", path, e.getMessage());
+            captureScreenshot("Click_Failure")
+                    .thenAccept(path -> log.error("📸 EVIDENCE: Click failure captured at {}", path));
+            log.error("FATAL: Click failed. Trace: {}", e.getMessage());
             throw new RuntimeException("Interaction Error: Click", e);
         }
     }
@@ -189,12 +241,12 @@ public class GenericActions {
      */
     public static void sendKeys(String[] locators, String text, String... replacements) {
         try {
-            WebElement el = findElementSmartly(locators, replacements);
+            WebElement el = awaitVisible(locators, replacements);
             el.clear();
             el.sendKeys(text);
             log.info("ACTION: Typed [{}] into field.", text);
         } catch (Exception e) {
-            takeScreenshot("Type_Failure");
+            captureScreenshot("Type_Failure");
             log.error("FATAL: Input failed on locators {}. Error: {}", locators, e.getMessage());
             throw new RuntimeException("Input Error: SendKeys", e);
         }
@@ -206,7 +258,7 @@ public class GenericActions {
      */
     public static String getText(String[] locators, String... replacements) {
         try {
-            WebElement el = findElementSmartly(locators, replacements);
+            WebElement el = awaitVisible(locators, replacements);
             String text = el.getText().trim();
             log.info("📊 DATA_EXTRACTED: [{}]", text);
             return text;
@@ -223,14 +275,41 @@ public class GenericActions {
      */
     public static void jsClick(String[] locators, String... replacements) {
         try {
-            WebElement el = findElementSmartly(locators, replacements);
-            ((JavascriptExecutor) getDriver()).executeScript("arguments[0].click();", el);
-            log.info("JS: Executed JavaScript Click.");
+            // Pinned composite: find + scroll + click in one round trip, forced even if overlaid
+            String failure = ScriptRegistry.waitScrollClick(getDriver(), cacheOrdered(locators, replacements),
+                    2000L * locators.length, false, replacements);
+            if (failure == null) {
+                log.info("JS: Executed JavaScript Click.");
+            } else {
+                log.error("JS_ERROR: JS Click failed: {}", failure);
+            }
         } catch (Exception e) {
             log.error("JS_ERROR: JS Click failed: {}", e.getMessage());
         }
     }
 
+    /**
+     * 🎯 ONE-TRIP CLICK: waits for a visible, enabled, un-covered match, scrolls it to
+     * the centre and clicks it, all inside a single pinned script call. For hot paths
+     * where click()'s separate wait + native click round trips add up.
+     */
+    public static void waitScrollClick(String[] locators, String... replacements) {
+        String failure;
+        try {
+            failure = ScriptRegistry.waitScrollClick(getDriver(), locators, 10_000L + 2000L * locators.length,
+                    true, replacements);
+        } catch (Exception e) {
+            failure = e.getMessage();
+        }
+        if (failure != null) {
+            captureScreenshot("Click_Failure")
+                    .thenAccept(path -> log.error("📸 EVIDENCE: Click failure captured at {}", path));
+            log.error("FATAL: Click failed. Trace: {}", failure);
+            throw new RuntimeException("Interaction Error: Click (" + failure + ")");
+        }
+        log.info("ACTION: Clicked element successfully.");
+    }
+
     // --- 4. DROPDOWNS ---
     public static void selectByText(String[] locators, String text, String... replacements) {
         try {
@@ -238,7 +317,7 @@ public class GenericActions {
             new Select(el).selectByVisibleText(text);
             log.info("SELECT: Option [{}] chosen from dropdown.", text);
         } catch (Exception e) {
-            takeScreenshot("Select_Failure");
+            captureScreenshot("Select_Failure");
             log.error("FATAL: Dropdown selection failed. Error: {}", e.getMessage());
             throw new RuntimeException("Select Error", e);
         }
@@ -301,16 +380,24 @@ public class GenericActions {
      * a failure happens and saves it to the 'screenshots' folder.
      */
     public static String takeScreenshot(String name) {
-        String path = System.getProperty("user.dir") + "/target/reports/screenshots/" + name + "_"
-                + System.currentTimeMillis() + ".png";
-        try {
-            File source = ((TakesScreenshot) getDriver()).getScreenshotAs(OutputType.FILE);
-            FileUtils.copyFile(source, new File(path));
-            return path;
-        } catch (IOException e) {
-            log.error("❌ SCREENSHOT_FAILED: {}", e.getMessage());
-            return "";
-        }
+        // Legacy blocking API: prefer captureScreenshot() so the test thread never waits on disk I/O
+        return captureScreenshot(name).join();
+    }
+
+    /**
+     * Captures the page now and returns the future file path; encoding and the disk
+     * write happen on the EvidenceWriter thread.
+     */
+    public static CompletableFuture<String> captureScreenshot(String name) {
+        return EvidenceWriter.capture((TakesScreenshot) getDriver(), name);
+    }
+
+    /**
+     * Element-scoped capture: only the element's box, far smaller than a full page.
+     */
+    public static CompletableFuture<String> captureElementScreenshot(String[] locators, String name,
+                                                                     String... replacements) {
+        return EvidenceWriter.capture(findElementSmartly(locators, replacements), name);
     }
 
     /**
@@ -407,9 +494,12 @@ public class GenericActions {
     public static void injectCaptchaBypassToken(String token) {
         try {
             log.info("SECURITY: Injecting hidden g-recaptcha-response token...");
-            ((JavascriptExecutor) getDriver()).executeScript(
-                    "document.getElementById('g-recaptcha-response').innerHTML='" + token + "';");
-            log.info("SECURITY: CAPTCHA token successfully injected.");
+            // Token travels as an argument, never spliced into script source
+            if (Boolean.TRUE.equals(ScriptRegistry.call(getDriver(), "setInnerHtml", "g-recaptcha-response", token))) {
+                log.info("SECURITY: CAPTCHA token successfully injected.");
+            } else {
+                log.warn("SECURITY: No g-recaptcha-response field on this page.");
+            }
         } catch (Exception e) {
             log.error("SECURITY_ERROR: CAPTCHA injection failed | {}", e.getMessage());
         }
@@ -419,12 +509,18 @@ public class GenericActions {
      * THE WALMART HEADACHE I FIXED:
      * - THE PROBLEM: Even if an element was "present," clicks would fail because
      * the page was still busy loading heavy JS in the background.
-     * - WHAT I DID: I added this 'Smart Ready State' check that polls the
+     * - WHAT I DID: I added this 'Smart Ready State' check. With a CDP session it
+     * waits for network-idle (PageReadinessDetector), since readyState is
+     * 'complete' long before DemoBlaze's XHRs land. Without CDP it polls the
      * browser's 'document.readyState' until it is 'complete'.
      */
     public static void waitForPageToLoad() {
+        long readyMillis = PageReadinessDetector.awaitNetworkIdle();
+        if (readyMillis >= 0) {
+            return;
+        }
         new WebDriverWait(getDriver(), Duration.ofSeconds(15)).until(
-                wd -> ((JavascriptExecutor) wd).executeScript("return document.readyState").equals("complete"));
+                wd -> "complete".equals(ScriptRegistry.call(wd, "readyState")));
         log.info("SYNC: Page is fully loaded and interactive.");
     }
 
@@ -438,57 +534,81 @@ public class GenericActions {
      */
 
     public static void startNetworkSniffer() {
-        try {
-            log.info("🕵️‍♂️ NETWORK: Attempting to hook CDP (v129 bridge)...");
-
-            Filter failureReporter = (HttpHandler next) -> (req) -> {
-                HttpResponse res = next.execute(req);
-                if (res.getStatus() >= 400) {
-                    log.error("🚨 API_FAILURE: {} | Status: {}", req.getUri(), res.getStatus());
-                }
-                return res;
-            };
-
-            // If the JAR doesn't match the browser, this throws a RuntimeException
-            interceptor = new NetworkInterceptor(getDriver(), failureReporter);
+        // Per-thread recorder on this test's CDP session (the old static interceptor was
+        // shared by every parallel thread, so they overwrote and closed each other's)
+        if (NetworkRecorder.start(CdpSession.current())) {
             log.info("✅ NETWORK: Sniffer active.");
-
-        } catch (Throwable t) {
-            // We catch THROWABLE to stop the "No-Op" error from reaching TestNG
-            log.warn("⚠️ NETWORK_SNIFFER_OFF: DevTools version mismatch. Proceeding to UI tests only.");
-            interceptor = null;
+        } else {
+            log.warn("⚠️ NETWORK_SNIFFER_OFF: No CDP session. Proceeding to UI tests only.");
         }
     }
 
-    // Add this method to clean up the leak
+    /**
+     * Drops this thread's capture. Failed tests export it as a HAR before this runs.
+     */
     public static void stopNetworkSniffer() {
-        if (interceptor != null) {
-            interceptor.close();
-            log.info("🛑 NETWORK: Interceptor closed successfully.");
-        }
+        NetworkRecorder.discard();
+        log.info("🛑 NETWORK: Sniffer closed for this thread.");
     }
 
     /**
      * 🛰️ THE ALERT CONTROLLER
      * SITUATION: Demoblaze uses native JS alerts for errors and success messages.
      * ACTION: Added a robust wait + switch + accept bridge with error handling.
+     * UPDATE: With CDP the dialog is taken from DialogWatcher's event queue, so a
+     *   missing alert is reported as soon as the page settles, not after 5 seconds.
      */
     public static String getAlertTextAndAccept() {
+        return respondToAlert(true);
+    }
+
+    public static void handleAlert(boolean accept) {
+        respondToAlert(accept);
+    }
+
+    private static String respondToAlert(boolean accept) {
+        if (!DialogWatcher.isActive()) {
+            return pollForAlert(accept);
+        }
+        DialogWatcher.Dialog dialog = DialogWatcher.next();
+        if (dialog == null) {
+            return "NO_ALERT_PRESENT";
+        }
+        log.info("📢 ALERT_CAPTURED: [{}] {}", dialog.getType(), dialog.getMessage());
+        try {
+            Alert alert = getDriver().switchTo().alert();
+            if (accept) {
+                alert.accept();
+            } else {
+                alert.dismiss();
+            }
+        } catch (NoAlertPresentException e) {
+            // Dialogs closed before they were read are dropped by DialogWatcher, so this one
+            // was open when taken and closed in between: still this action's alert
+            log.debug("Dialog closed between capture and response.");
+        }
+        return dialog.getMessage();
+    }
+
+    /**
+     * Legacy path for browsers without CDP.
+     */
+    private static String pollForAlert(boolean accept) {
         try {
             WebDriverWait wait = new WebDriverWait(getDriver(), Duration.ofSeconds(5));
             wait.until(ExpectedConditions.alertIsPresent());
             Alert alert = getDriver().switchTo().alert();
             String text = alert.getText();
             log.info("📢 ALERT_CAPTURED: {}", text);
-            alert.accept();
+            if (accept) {
+                alert.accept();
+            } else {
+                alert.dismiss();
+            }
             return text;
         } catch (Exception e) {
             log.warn("⚠️ NO_ALERT: Expected alert did not appear within timeout.");
             return "NO_ALERT_PRESENT";
         }
     }
-
-    public static void handleAlert(boolean accept) {
-        getAlertTextAndAccept();
-    }
 }
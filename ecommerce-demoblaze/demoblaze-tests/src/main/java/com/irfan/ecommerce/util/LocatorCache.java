@@ -0,0 +1,162 @@
+package com.irfan.ecommerce.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * LocatorCache: The "Memory" of the Self-Healing engine.
+ *
+ * THE WALMART HEADACHE I FIXED:
+ * - THE PROBLEM: getBestLocator() re-tried every dead primary locator on every call,
+ *   so each healed element paid extra WebDriver round trips for the rest of its life.
+ * - WHAT I DID: Remember which strategy won per (page URL pattern, ObjectRepo key,
+ *   replacement args). The winner is tried first, demoted the moment it stops
+ *   matching, and the learned ordering is saved to disk at suite end, under .cache/
+ *   (git-ignored, outside target/ so mvn clean keeps it; CI restores it per shard).
+ * - THE RESULT: The next run starts already "healed" instead of re-learning it.
+ */
+public final class LocatorCache {
+    private static final Logger log = LogManager.getLogger(LocatorCache.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final File cacheFile =
+            new File(PropertyReader.getProperty("locator.cache.file", ".cache/locator-cache.json"));
+
+    // "OBJECT_REPO_KEY|args" -> (page URL pattern -> winning locator string)
+    private static final Map<String, Map<String, String>> winners = new ConcurrentHashMap<>();
+    private static final Map<String[], String> repoNames = indexObjectRepo();
+
+    // 📊 CACHE METRICS
+    private static final AtomicLong lookups = new AtomicLong();
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong demotions = new AtomicLong();
+    private static final AtomicLong roundTripsSaved = new AtomicLong();
+    private static final AtomicLong urlLookups = new AtomicLong();
+
+    static {
+        load();
+    }
+
+    private LocatorCache() {
+        throw new IllegalStateException("Utility class - instantiation is not allowed.");
+    }
+
+    public static String keyFor(String[] locatorArray, String... replacements) {
+        String name = repoNames.getOrDefault(locatorArray, String.join("||", locatorArray));
+        return name + "|" + String.join(",", replacements);
+    }
+
+    /**
+     * Returns the remembered winner for this key, or null. The page URL is only
+     * fetched (one extra round trip) when different pages learned different winners.
+     */
+    static String lookup(String key, Supplier<String> pagePattern) {
+        lookups.incrementAndGet();
+        Map<String, String> byPage = winners.get(key);
+        if (byPage == null || byPage.isEmpty()) {
+            return null;
+        }
+        Set<String> distinct = new HashSet<>(byPage.values());
+        if (distinct.size() == 1) {
+            return distinct.iterator().next();
+        }
+        urlLookups.incrementAndGet();
+        return byPage.get(pagePattern.get());
+    }
+
+    static void recordHit(int winnerIndex) {
+        hits.incrementAndGet();
+        roundTripsSaved.addAndGet(winnerIndex);
+    }
+
+    static void record(String key, String pagePattern, String locator) {
+        winners.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(pagePattern, locator);
+    }
+
+    /**
+     * The cached winner stopped matching: forget it everywhere for this key so the
+     * next call falls back to a full scan and re-learns.
+     */
+    static void demote(String key, String locator) {
+        Map<String, String> byPage = winners.get(key);
+        if (byPage != null && byPage.values().removeIf(locator::equals)) {
+            demotions.incrementAndGet();
+            log.warn("🩹 LOCATOR_CACHE: Demoted [{}] for {}", locator, key);
+        }
+    }
+
+    /**
+     * Normalises a URL into a page pattern: no query/fragment, numeric path segments wildcarded.
+     */
+    static String toPagePattern(String url) {
+        if (url == null) {
+            return "";
+        }
+        String pattern = url.split("[?#]", 2)[0];
+        return pattern.replaceAll("/\\d+(?=/|$)", "/{n}");
+    }
+
+    /**
+     * Saves the learned ordering for the next run. Called once at suite end.
+     */
+    public static synchronized void persist() {
+        try {
+            File dir = cacheFile.getAbsoluteFile().getParentFile();
+            if (dir != null && !dir.exists()) {
+                dir.mkdirs();
+            }
+            mapper.writerWithDefaultPrettyPrinter().writeValue(cacheFile, winners);
+            log.info("💾 LOCATOR_CACHE: Persisted {} keys to {} | {}", winners.size(), cacheFile.getPath(), getStats());
+        } catch (Exception e) {
+            log.error("❌ LOCATOR_CACHE: Could not persist to {}: {}", cacheFile.getPath(), e.getMessage());
+        }
+    }
+
+    public static String getStats() {
+        long total = lookups.get();
+        double hitRate = total == 0 ? 0 : (double) hits.get() / total * 100;
+        return String.format("lookups=%d hits=%d (%.0f%%) demotions=%d roundTripsSaved=%d urlLookups=%d",
+                total, hits.get(), hitRate, demotions.get(), roundTripsSaved.get(), urlLookups.get());
+    }
+
+    private static void load() {
+        if (!cacheFile.exists()) {
+            return;
+        }
+        try {
+            Map<String, Map<String, String>> stored =
+                    mapper.readValue(cacheFile, new TypeReference<Map<String, Map<String, String>>>() {});
+            stored.forEach((key, byPage) -> winners.put(key, new ConcurrentHashMap<>(byPage)));
+            log.info("📂 LOCATOR_CACHE: Warm start with {} learned keys from {}", winners.size(), cacheFile.getPath());
+        } catch (Exception e) {
+            log.warn("⚠️ LOCATOR_CACHE: Ignoring unreadable cache file {}: {}", cacheFile.getPath(), e.getMessage());
+        }
+    }
+
+    // Maps each ObjectRepo array (by identity) to its field name, so cache keys survive locator edits
+    private static Map<String[], String> indexObjectRepo() {
+        Map<String[], String> names = new IdentityHashMap<>();
+        for (Field field : ObjectRepo.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == String[].class) {
+                try {
+                    names.put((String[]) field.get(null), field.getName());
+                } catch (IllegalAccessException e) {
+                    log.debug("Skipping ObjectRepo field {}", field.getName());
+                }
+            }
+        }
+        return names;
+    }
+}
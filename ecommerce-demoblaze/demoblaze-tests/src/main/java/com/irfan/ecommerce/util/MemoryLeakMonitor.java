@@ -0,0 +1,201 @@
+package com.irfan.ecommerce.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.v129.heapprofiler.HeapProfiler;
+import org.openqa.selenium.devtools.v129.memory.Memory;
+import org.openqa.selenium.devtools.v129.runtime.Runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * MemoryLeakMonitor: Catch a bloating browser before Chrome shows "Aw, Snap!".
+ *
+ * THE WALMART HEADACHE I FIXED:
+ * - THE PROBLEM: Pooled sessions serve up to driver.pool.max.tests tests. On long
+ *   shards Chrome grew slowly until the renderer crashed. Docker needed shm_size: 2gb
+ *   to hide it, and the crash landed on whichever unlucky test came next.
+ * - WHAT I DID: Every test takes a post-GC sample of the renderer (JS heap, documents,
+ *   DOM nodes, event listeners) through CDP when it starts on the pool's about:blank
+ *   page and again when it ends. The difference is what that test left behind. When a
+ *   session's heap, node count or its growth since birth crosses a threshold, the pool
+ *   quits it at this test boundary instead of handing it to the next test.
+ * - THE RESULT: Bloated browsers are retired on purpose between tests, and the report
+ *   names the tests that retain the most memory.
+ */
+public final class MemoryLeakMonitor {
+    private static final Logger log = LogManager.getLogger(MemoryLeakMonitor.class);
+
+    private static final boolean ENABLED = PropertyReader.getBooleanProperty("memory.monitor.enabled", true);
+    private static final long HEAP_LIMIT_BYTES = PropertyReader.getLongProperty("memory.recycle.heap.mb", 256) << 20;
+    private static final long GROWTH_LIMIT_BYTES = PropertyReader.getLongProperty("memory.recycle.growth.mb", 64) << 20;
+    private static final long NODE_LIMIT = PropertyReader.getLongProperty("memory.recycle.dom.nodes", 50_000);
+    private static final int REPORT_TOP = PropertyReader.getIntProperty("memory.report.top", 5);
+
+    private static final ThreadLocal<Probe> current = new ThreadLocal<>();
+    // Post-GC heap of each browser when it was first sampled; weak so recycled sessions drop out
+    private static final Map<WebDriver, Long> sessionBirthHeap = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final List<TestMemory> results = Collections.synchronizedList(new ArrayList<>());
+
+    // 📊 RUN TOTALS
+    private static final AtomicLong samples = new AtomicLong();
+    private static final AtomicLong sampleMillis = new AtomicLong();
+    private static final AtomicLong recycles = new AtomicLong();
+
+    private MemoryLeakMonitor() {
+        throw new IllegalStateException("Utility class - instantiation is not allowed.");
+    }
+
+    /**
+     * Takes the test's starting sample. No-op without CDP or when disabled.
+     */
+    public static void install(CdpSession session, WebDriver driver, String testName) {
+        current.remove();
+        if (session == null || !ENABLED) {
+            return;
+        }
+        try {
+            session.enable("HeapProfiler", HeapProfiler.enable());
+            Sample start = sample(session);
+            sessionBirthHeap.putIfAbsent(driver, start.heapUsed);
+            current.set(new Probe(session, driver, testName, start));
+        } catch (Exception e) {
+            log.warn("⚠️ MEMORY_MONITOR_OFF: Heap sampling unavailable ({}).", e.getMessage());
+        }
+    }
+
+    /**
+     * Takes the test's closing sample and records what it retained.
+     *
+     * @return why this session should be recycled, or null when it may be reused
+     */
+    public static String finish() {
+        Probe probe = current.get();
+        current.remove();
+        if (probe == null) {
+            return null;
+        }
+        Sample end;
+        try {
+            end = sample(probe.session);
+        } catch (Exception e) {
+            log.debug("Closing heap sample failed: {}", e.getMessage());
+            return null;
+        }
+        long retained = end.heapUsed - probe.start.heapUsed;
+        results.add(new TestMemory(probe.testName, retained, end.nodes - probe.start.nodes));
+        log.info("🧠 MEMORY: [{}] heap={}MB (retained {}{}KB) documents={} nodes={} listeners={}",
+                probe.testName, end.heapUsed >> 20, retained >= 0 ? "+" : "", retained >> 10,
+                end.documents, end.nodes, end.listeners);
+
+        String reason = recycleReason(probe.driver, end);
+        if (reason != null) {
+            recycles.incrementAndGet();
+            sessionBirthHeap.remove(probe.driver);
+            log.warn("♻️ MEMORY_RECYCLE: [{}] left the browser at {}. Recycling it at this test boundary.",
+                    probe.testName, reason);
+        }
+        return reason;
+    }
+
+    /**
+     * The tests that retained the most JS heap, largest first.
+     */
+    public static String getSummary() {
+        List<TestMemory> top;
+        synchronized (results) {
+            top = results.stream()
+                    .sorted(Comparator.comparingLong((TestMemory t) -> t.retainedBytes).reversed())
+                    .limit(REPORT_TOP)
+                    .collect(Collectors.toList());
+        }
+        if (top.isEmpty()) {
+            return "no samples";
+        }
+        return top.stream()
+                .map(t -> String.format("%s +%dKB heap, %+d nodes", t.testName, t.retainedBytes >> 10, t.retainedNodes))
+                .collect(Collectors.joining(" | "));
+    }
+
+    public static String getStats() {
+        long count = samples.get();
+        return String.format("samples=%d avgSample=%dms recycled=%d tests=%d",
+                count, count == 0 ? 0 : sampleMillis.get() / count, recycles.get(), results.size());
+    }
+
+    private static String recycleReason(WebDriver driver, Sample end) {
+        if (end.heapUsed > HEAP_LIMIT_BYTES) {
+            return String.format("heap %dMB > %dMB", end.heapUsed >> 20, HEAP_LIMIT_BYTES >> 20);
+        }
+        if (end.nodes > NODE_LIMIT) {
+            return String.format("%d DOM nodes > %d", end.nodes, NODE_LIMIT);
+        }
+        Long birth = sessionBirthHeap.get(driver);
+        if (birth != null && end.heapUsed - birth > GROWTH_LIMIT_BYTES) {
+            return String.format("heap growth %dMB since session start > %dMB",
+                    (end.heapUsed - birth) >> 20, GROWTH_LIMIT_BYTES >> 20);
+        }
+        return null;
+    }
+
+    /**
+     * Forces a major GC first, so what is measured is memory still reachable, not garbage.
+     */
+    private static Sample sample(CdpSession session) {
+        long start = System.nanoTime();
+        session.send(HeapProfiler.collectGarbage());
+        Runtime.GetHeapUsageResponse heap = session.send(Runtime.getHeapUsage());
+        Memory.GetDOMCountersResponse dom = session.send(Memory.getDOMCounters());
+        samples.incrementAndGet();
+        sampleMillis.addAndGet((System.nanoTime() - start) / 1_000_000);
+        return new Sample(heap.getUsedSize().longValue(), dom.getDocuments(), dom.getNodes(), dom.getJsEventListeners());
+    }
+
+    private static final class Probe {
+        private final CdpSession session;
+        private final WebDriver driver;
+        private final String testName;
+        private final Sample start;
+
+        private Probe(CdpSession session, WebDriver driver, String testName, Sample start) {
+            this.session = session;
+            this.driver = driver;
+            this.testName = testName;
+            this.start = start;
+        }
+    }
+
+    private static final class Sample {
+        private final long heapUsed;
+        private final int documents;
+        private final int nodes;
+        private final int listeners;
+
+        private Sample(long heapUsed, int documents, int nodes, int listeners) {
+            this.heapUsed = heapUsed;
+            this.documents = documents;
+            this.nodes = nodes;
+            this.listeners = listeners;
+        }
+    }
+
+    private static final class TestMemory {
+        private final String testName;
+        private final long retainedBytes;
+        private final int retainedNodes;
+
+        private TestMemory(String testName, long retainedBytes, int retainedNodes) {
+            this.testName = testName;
+            this.retainedBytes = retainedBytes;
+            this.retainedNodes = retainedNodes;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.irfan.ecommerce.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.devtools.v129.network.Network;
+
+import java.io.File;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * NetworkRecorder: A per-thread "black box flight recorder" for browser traffic.
+ *
+ * 🚀 THE EMIRATES-SCALE "WHY":
+ * SITUATION: The old sniffer lived in ONE static field, so with parallel="methods"
+ *   threads overwrote each other's interceptor and stopNetworkSniffer() closed the
+ *   wrong one. It also paused every request through the Fetch domain just to log 4xx.
+ * ACTION: Each test thread records raw CDP network events (timings, sizes, status)
+ *   into its own bounded, lock-free ring buffer. Nothing is parsed on the hot path.
+ * RESULT: On failure the buffer becomes a HAR file attached to the report; on success
+ *   it is simply dropped. Memory stays bounded no matter how chatty the page is.
+ */
+public final class NetworkRecorder {
+    private static final Logger log = LogManager.getLogger(NetworkRecorder.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final ThreadLocal<NetworkRecorder> current = new ThreadLocal<>();
+    private static final int CAPACITY = PropertyReader.getIntProperty("network.capture.capacity", 4096);
+
+    // ITestResult attribute shared by BaseTest.teardown and Listeners, whichever runs first exports
+    public static final String HAR_ATTRIBUTE = "har.path";
+
+    private final EventRing ring = new EventRing(CAPACITY);
+
+    private NetworkRecorder() {
+    }
+
+    /**
+     * Starts recording the current thread's CDP session. No-op without CDP.
+     */
+    public static boolean start(CdpSession session) {
+        current.remove();
+        if (session == null) {
+            return false;
+        }
+        try {
+            NetworkRecorder recorder = new NetworkRecorder();
+            session.enableNetwork();
+            session.on(Network.requestWillBeSent(), e -> recorder.ring.add(new NetEvent(
+                    Kind.REQUEST, e.getRequestId().toString(), e.getTimestamp().toJson().doubleValue(),
+                    e.getWallTime().toJson().doubleValue(), e.getRequest().getMethod(), e.getRequest().getUrl(),
+                    0, null, null, e.getRequest().getHeaders(), 0, null)));
+            session.on(Network.responseReceived(), e -> {
+                int status = e.getResponse().getStatus();
+                if (status >= 400) {
+                    log.error("🚨 API_FAILURE: {} | Status: {}", e.getResponse().getUrl(), status);
+                }
+                recorder.ring.add(new NetEvent(Kind.RESPONSE, e.getRequestId().toString(),
+                        e.getTimestamp().toJson().doubleValue(), 0, e.getResponse().getProtocol().orElse("HTTP/1.1"),
+                        e.getResponse().getUrl(), status, e.getResponse().getStatusText(),
+                        e.getResponse().getMimeType(), e.getResponse().getHeaders(), 0, null));
+            });
+            session.on(Network.loadingFinished(), e -> recorder.ring.add(new NetEvent(Kind.FINISHED,
+                    e.getRequestId().toString(), e.getTimestamp().toJson().doubleValue(), 0, null, null, 0, null,
+                    null, null, e.getEncodedDataLength().longValue(), null)));
+            session.on(Network.loadingFailed(), e -> recorder.ring.add(new NetEvent(Kind.FAILED,
+                    e.getRequestId().toString(), e.getTimestamp().toJson().doubleValue(), 0, null, null, 0, null,
+                    null, null, 0, e.getErrorText())));
+            current.set(recorder);
+            return true;
+        } catch (Exception e) {
+            log.warn("⚠️ NETWORK_RECORDER_OFF: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Throws the current thread's capture away (the test passed).
+     */
+    public static void discard() {
+        current.remove();
+    }
+
+    /**
+     * Writes the current thread's capture as a HAR 1.2 file and stops recording.
+     *
+     * @return the HAR path, or null when nothing was recorded
+     */
+    public static String exportHar(String testName) {
+        NetworkRecorder recorder = current.get();
+        current.remove();
+        if (recorder == null) {
+            return null;
+        }
+        List<NetEvent> events = recorder.ring.snapshot();
+        if (events.isEmpty()) {
+            return null;
+        }
+        String path = System.getProperty("user.dir") + "/target/reports/har/" + testName + "_"
+                + System.currentTimeMillis() + ".har";
+        try {
+            File file = new File(path);
+            file.getParentFile().mkdirs();
+            mapper.writerWithDefaultPrettyPrinter().writeValue(file, toHar(events));
+            log.info("📦 HAR: {} events ({} dropped by ring) written to {}", events.size(),
+                    recorder.ring.dropped(), path);
+            return path;
+        } catch (Exception e) {
+            log.error("❌ HAR_EXPORT_FAILED: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // --- HAR ASSEMBLY (failure path only, so the cost never hits passing tests) ---
+
+    private static ObjectNode toHar(List<NetEvent> events) {
+        Map<String, List<NetEvent>> byRequest = new LinkedHashMap<>();
+        for (NetEvent event : events) {
+            byRequest.computeIfAbsent(event.requestId, k -> new ArrayList<>()).add(event);
+        }
+
+        ObjectNode har = mapper.createObjectNode();
+        ObjectNode logNode = har.putObject("log");
+        logNode.put("version", "1.2");
+        logNode.putObject("creator").put("name", "Enterprise-Quality-Orchestrator").put("version", "1.0");
+        ArrayNode entries = logNode.putArray("entries");
+
+        for (List<NetEvent> group : byRequest.values()) {
+            NetEvent request = null;
+            NetEvent response = null;
+            NetEvent end = null;
+            for (NetEvent event : group) {
+                switch (event.kind) {
+                    case REQUEST -> request = request == null ? event : request;
+                    case RESPONSE -> response = event;
+                    default -> end = event;
+                }
+            }
+            if (request == null) {
+                continue; // Its request event was overwritten in the ring
+            }
+            entries.add(toEntry(request, response, end));
+        }
+        return har;
+    }
+
+    private static ObjectNode toEntry(NetEvent request, NetEvent response, NetEvent end) {
+        double waitMs = response == null ? -1 : (response.timestamp - request.timestamp) * 1000;
+        double receiveMs = response == null || end == null ? -1 : (end.timestamp - response.timestamp) * 1000;
+        double totalMs = end == null ? -1 : (end.timestamp - request.timestamp) * 1000;
+
+        ObjectNode entry = mapper.createObjectNode();
+        entry.put("startedDateTime", Instant.ofEpochMilli((long) (request.wallTime * 1000)).toString());
+        entry.put("time", Math.max(totalMs, 0));
+
+        ObjectNode req = entry.putObject("request");
+        req.put("method", request.text);
+        req.put("url", request.url);
+        req.put("httpVersion", response == null ? "" : response.text);
+        req.set("headers", headers(request.headers));
+        req.putArray("queryString");
+        req.putArray("cookies");
+        req.put("headersSize", -1);
+        req.put("bodySize", -1);
+
+        ObjectNode res = entry.putObject("response");
+        res.put("status", response == null ? 0 : response.status);
+        res.put("statusText", response == null || response.statusText == null ? "" : response.statusText);
+        res.put("httpVersion", response == null ? "" : response.text);
+        res.set("headers", headers(response == null ? null : response.headers));
+        res.putArray("cookies");
+        ObjectNode content = res.putObject("content");
+        content.put("size", end == null ? 0 : end.bytes);
+        content.put("mimeType", response == null || response.mimeType == null ? "" : response.mimeType);
+        res.put("redirectURL", "");
+        res.put("headersSize", -1);
+        res.put("bodySize", end == null ? -1 : end.bytes);
+        if (end != null && end.error != null) {
+            res.put("_error", end.error);
+        }
+
+        entry.putObject("cache");
+        ObjectNode timings = entry.putObject("timings");
+        timings.put("send", 0);
+        timings.put("wait", waitMs);
+        timings.put("receive", receiveMs);
+        return entry;
+    }
+
+    private static ArrayNode headers(Map<String, Object> headers) {
+        ArrayNode array = mapper.createArrayNode();
+        if (headers != null) {
+            headers.forEach((name, value) -> array.addObject().put("name", name).put("value", String.valueOf(value)));
+        }
+        return array;
+    }
+
+    // --- HOT PATH ---
+
+    private enum Kind { REQUEST, RESPONSE, FINISHED, FAILED }
+
+    /**
+     * One raw CDP event. 'text' is the HTTP method for requests and the protocol for responses.
+     */
+    private static final class NetEvent {
+        private final Kind kind;
+        private final String requestId;
+        private final double timestamp;
+        private final double wallTime;
+        private final String text;
+        private final String url;
+        private final int status;
+        private final String statusText;
+        private final String mimeType;
+        private final Map<String, Object> headers;
+        private final long bytes;
+        private final String error;
+        private long seq;
+
+        private NetEvent(Kind kind, String requestId, double timestamp, double wallTime, String text, String url,
+                         int status, String statusText, String mimeType, Map<String, Object> headers, long bytes,
+                         String error) {
+            this.kind = kind;
+            this.requestId = requestId;
+            this.timestamp = timestamp;
+            this.wallTime = wallTime;
+            this.text = text;
+            this.url = url;
+            this.status = status;
+            this.statusText = statusText;
+            this.mimeType = mimeType;
+            this.headers = headers;
+            this.bytes = bytes;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Bounded multi-producer ring: a claim is one getAndIncrement, a write one volatile set.
+     * When full, the oldest events are overwritten; readers skip slots that were lapped.
+     */
+    private static final class EventRing {
+        private final AtomicReferenceArray<NetEvent> slots;
+        private final int mask;
+        private final AtomicLong next = new AtomicLong();
+
+        private EventRing(int requestedCapacity) {
+            int capacity = Integer.highestOneBit(Math.max(16, requestedCapacity - 1) << 1);
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+
+        private void add(NetEvent event) {
+            long seq = next.getAndIncrement();
+            event.seq = seq;
+            slots.set((int) (seq & mask), event);
+        }
+
+        private List<NetEvent> snapshot() {
+            long end = next.get();
+            long start = Math.max(0, end - slots.length());
+            List<NetEvent> events = new ArrayList<>((int) (end - start));
+            for (long seq = start; seq < end; seq++) {
+                NetEvent event = slots.get((int) (seq & mask));
+                if (event != null && event.seq == seq) {
+                    events.add(event);
+                }
+            }
+            return events;
+        }
+
+        private long dropped() {
+            return Math.max(0, next.get() - slots.length());
+        }
+    }
+}
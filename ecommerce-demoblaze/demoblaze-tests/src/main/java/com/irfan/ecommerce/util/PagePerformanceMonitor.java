@@ -0,0 +1,258 @@
+package com.irfan.ecommerce.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.v129.performance.Performance;
+import org.openqa.selenium.devtools.v129.performance.model.Metric;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PagePerformanceMonitor: Every page load in a test leaves a performance sample.
+ *
+ * 🚀 THE WALMART-SCALE "WHY":
+ * SITUATION: The page objects promised "Splunk-ready" performance tracking, but
+ *   nothing was measured, so a page getting 2x heavier only showed up as flakiness.
+ * ACTION: After each page load (BaseTest's landing load, BasePage deep links, and
+ *   clicked transitions such as product cards and the header Cart link) we read
+ *   Navigation Timing (DOM content loaded, load, bytes, requests) in one pinned-script
+ *   call, plus CDP Performance.getMetrics (JS heap, layouts). Samples are aggregated
+ *   per page class.
+ *   Each sample is checked against absolute budgets (perf.budget.*) and against the
+ *   baseline p90s in a versioned file (src/test/resources/perf), which is rewritten
+ *   only on an explicit -Dperf.baseline.update=true run, never by a regressed run.
+ * RESULT: p50/p90/p95 per page in every report. A regression is flagged on the test
+ *   that caused it, or fails that test when perf.budget.mode=fail. Breaches are only
+ *   recorded here and BaseTest's teardown fails the test, because throwing from the
+ *   landing-page capture in @BeforeMethod would turn the breach into a skip.
+ */
+public final class PagePerformanceMonitor {
+    private static final Logger log = LogManager.getLogger(PagePerformanceMonitor.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final boolean ENABLED = PropertyReader.getBooleanProperty("perf.monitor.enabled", true);
+    private static final boolean FAIL_MODE = "fail".equalsIgnoreCase(PropertyReader.getProperty("perf.budget.mode", "flag"));
+    private static final double TOLERANCE_PCT = Double.parseDouble(PropertyReader.getProperty("perf.baseline.tolerance.pct", "25"));
+    private static final boolean UPDATE_BASELINE = PropertyReader.getBooleanProperty("perf.baseline.update", false);
+    private static final File baselineFile =
+            new File(PropertyReader.getProperty("perf.baseline.file", "src/test/resources/perf/perf-baseline.json"));
+
+    public static final List<String> METRICS = List.of(
+            "domContentLoadedMs", "loadMs", "jsHeapUsedBytes", "layoutCount", "transferBytes", "requestCount");
+
+    // page class -> metric -> samples
+    private static final Map<String, Map<String, List<Double>>> samples = new ConcurrentHashMap<>();
+    // page class -> metric -> p90 of the run that wrote the baseline
+    private static final Map<String, Map<String, Double>> baseline = loadBaseline();
+
+    private static final ThreadLocal<CdpSession> sessions = new ThreadLocal<>();
+    private static final ThreadLocal<Double> lastLayoutCount = new ThreadLocal<>();
+    private static final ThreadLocal<List<String>> violations = ThreadLocal.withInitial(ArrayList::new);
+
+    private PagePerformanceMonitor() {
+        throw new IllegalStateException("Utility class - instantiation is not allowed.");
+    }
+
+    /**
+     * Enables CDP performance counters for this test. Without CDP only Navigation Timing is recorded.
+     */
+    public static void install(CdpSession session) {
+        sessions.remove();
+        lastLayoutCount.remove();
+        violations.remove();
+        if (session == null || !ENABLED) {
+            return;
+        }
+        try {
+            session.enable("Performance", Performance.enable(Optional.empty()));
+            sessions.set(session);
+        } catch (Exception e) {
+            log.warn("⚠️ PERF_MONITOR: CDP Performance domain unavailable ({}). Navigation Timing only.", e.getMessage());
+        }
+    }
+
+    public static void uninstall() {
+        sessions.remove();
+        lastLayoutCount.remove();
+    }
+
+    /**
+     * Samples the page the driver is on, attributed to the given page class. Never
+     * throws: breaches are collected for drainViolations().
+     */
+    public static void capture(WebDriver driver, String page) {
+        if (!ENABLED) {
+            return;
+        }
+        Map<String, Double> sample = new LinkedHashMap<>();
+        try {
+            Object timing = ScriptRegistry.call(driver, "navTiming");
+            if (timing instanceof List<?> values && values.size() >= 4) {
+                putPositive(sample, "domContentLoadedMs", values.get(0));
+                putPositive(sample, "loadMs", values.get(1));
+                putPositive(sample, "transferBytes", values.get(2));
+                putPositive(sample, "requestCount", values.get(3));
+            }
+        } catch (Exception e) {
+            log.debug("Navigation Timing unavailable: {}", e.getMessage());
+        }
+        CdpSession session = sessions.get();
+        if (session != null) {
+            try {
+                for (Metric metric : session.send(Performance.getMetrics())) {
+                    double value = metric.getValue().doubleValue();
+                    if ("JSHeapUsedSize".equals(metric.getName())) {
+                        sample.put("jsHeapUsedBytes", value);
+                    } else if ("LayoutCount".equals(metric.getName())) {
+                        // Cumulative per tab: keep only the layouts since this test's previous sample
+                        Double previous = lastLayoutCount.get();
+                        sample.put("layoutCount", previous == null ? value : Math.max(0, value - previous));
+                        lastLayoutCount.set(value);
+                    }
+                }
+            } catch (Exception e) {
+                log.debug("CDP performance metrics unavailable: {}", e.getMessage());
+            }
+        }
+        if (sample.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<Double>> pageSamples = samples.computeIfAbsent(page, k -> new ConcurrentHashMap<>());
+        List<String> found = new ArrayList<>();
+        sample.forEach((metric, value) -> {
+            pageSamples.computeIfAbsent(metric, k -> Collections.synchronizedList(new ArrayList<>())).add(value);
+            check(page, metric, value, found);
+        });
+        log.info("⏱️ PAGE_PERF: [{}] {}", page, sample);
+
+        if (!found.isEmpty()) {
+            found.forEach(v -> log.warn("⚠️ PERF_REGRESSION: {}", v));
+            violations.get().addAll(found);
+        }
+    }
+
+    /**
+     * True when perf.budget.mode=fail: a test with violations must be marked failed.
+     */
+    public static boolean isFailMode() {
+        return FAIL_MODE;
+    }
+
+    /**
+     * Returns and clears the current test's budget/baseline violations.
+     */
+    public static List<String> drainViolations() {
+        List<String> found = new ArrayList<>(violations.get());
+        violations.remove();
+        return found;
+    }
+
+    /**
+     * Run-wide p50/p90/p95 per page class and metric, for the logs and the Extent report.
+     */
+    public static String getSummary() {
+        StringBuilder sb = new StringBuilder();
+        new TreeMap<>(samples).forEach((page, metrics) -> {
+            sb.append(page).append(": ");
+            for (String metric : METRICS) {
+                List<Double> values = snapshot(metrics.get(metric));
+                if (!values.isEmpty()) {
+                    sb.append(String.format("%s p50=%.0f p90=%.0f p95=%.0f (n=%d), ", metric,
+                            percentile(values, 50), percentile(values, 90), percentile(values, 95), values.size()));
+                }
+            }
+            sb.setLength(sb.length() - 2);
+            sb.append(" | ");
+        });
+        return sb.length() == 0 ? "no pages measured" : sb.substring(0, sb.length() - 3);
+    }
+
+    /**
+     * Writes this run's p90s as the baseline, only when perf.baseline.update=true.
+     * The file is versioned: commit it after reviewing the new numbers.
+     */
+    public static synchronized void persistBaseline() {
+        if (samples.isEmpty() || !UPDATE_BASELINE) {
+            return;
+        }
+        Map<String, Map<String, Double>> p90s = new TreeMap<>();
+        samples.forEach((page, metrics) -> metrics.forEach((metric, values) -> {
+            List<Double> copy = snapshot(values);
+            if (!copy.isEmpty()) {
+                p90s.computeIfAbsent(page, k -> new TreeMap<>()).put(metric, percentile(copy, 90));
+            }
+        }));
+        try {
+            File dir = baselineFile.getAbsoluteFile().getParentFile();
+            if (dir != null && !dir.exists()) {
+                dir.mkdirs();
+            }
+            mapper.writerWithDefaultPrettyPrinter().writeValue(baselineFile, p90s);
+            log.info("⏱️ PERF_BASELINE: {} page(s) written to {}", p90s.size(), baselineFile.getPath());
+        } catch (Exception e) {
+            log.error("❌ PERF_BASELINE: Could not persist {}: {}", baselineFile.getPath(), e.getMessage());
+        }
+    }
+
+    private static void check(String page, String metric, double value, List<String> found) {
+        String budget = PropertyReader.getProperty("perf.budget." + page + "." + metric,
+                PropertyReader.getProperty("perf.budget.default." + metric, null));
+        if (budget != null && value > Double.parseDouble(budget)) {
+            found.add(String.format("%s.%s=%.0f over budget %s", page, metric, value, budget));
+        }
+        Double base = baseline.getOrDefault(page, Map.of()).get(metric);
+        if (base != null && base > 0 && value > base * (1 + TOLERANCE_PCT / 100)) {
+            found.add(String.format("%s.%s=%.0f is %.0f%% above baseline p90 %.0f", page, metric, value,
+                    (value / base - 1) * 100, base));
+        }
+    }
+
+    private static void putPositive(Map<String, Double> sample, String metric, Object value) {
+        if (value instanceof Number number && number.doubleValue() > 0) {
+            sample.put(metric, number.doubleValue());
+        }
+    }
+
+    private static List<Double> snapshot(List<Double> values) {
+        if (values == null) {
+            return List.of();
+        }
+        synchronized (values) {
+            List<Double> copy = new ArrayList<>(values);
+            Collections.sort(copy);
+            return copy;
+        }
+    }
+
+    /**
+     * Nearest-rank percentile of an already sorted list.
+     */
+    private static double percentile(List<Double> sorted, int p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, Math.min(sorted.size() - 1, rank - 1)));
+    }
+
+    private static Map<String, Map<String, Double>> loadBaseline() {
+        Map<String, Map<String, Double>> loaded = new ConcurrentHashMap<>();
+        if (baselineFile.exists()) {
+            try {
+                loaded.putAll(mapper.readValue(baselineFile, new TypeReference<Map<String, Map<String, Double>>>() {}));
+            } catch (Exception e) {
+                log.warn("⚠️ PERF_BASELINE: Ignoring unreadable baseline {}: {}", baselineFile.getPath(), e.getMessage());
+            }
+        }
+        return loaded;
+    }
+}
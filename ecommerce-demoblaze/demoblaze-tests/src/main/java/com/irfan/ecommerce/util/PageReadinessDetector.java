@@ -0,0 +1,189 @@
+package com.irfan.ecommerce.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.devtools.v129.network.Network;
+import org.openqa.selenium.devtools.v129.network.model.ResourceType;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PageReadinessDetector: "Ready" means the network went quiet, not readyState=complete.
+ *
+ * THE WALMART HEADACHE I FIXED:
+ * - THE PROBLEM: document.readyState flips to 'complete' long before DemoBlaze's XHRs
+ *   fill the product grid and cart table, so tests then burned time in element waits.
+ * - WHAT I DID: Per thread, CDP network events keep a live set of in-flight requests.
+ *   The page is ready once nothing has been in flight for a quiet window. Checking that
+ *   is a local memory read, so waiting costs zero WebDriver round trips.
+ * - THE RESULT: Tests start on a fully-populated page, and every page gets a
+ *   "how long until ready" entry in the run summary.
+ */
+public final class PageReadinessDetector {
+    private static final Logger log = LogManager.getLogger(PageReadinessDetector.class);
+    private static final ThreadLocal<PageReadinessDetector> current = new ThreadLocal<>();
+
+    private static final long QUIET_MS = PropertyReader.getLongProperty("readiness.quiet.ms", 500);
+    private static final long TIMEOUT_MS = PropertyReader.getLongProperty("readiness.timeout.ms", 15000);
+    // Long-polls / beacons that never finish must not block readiness forever
+    private static final long STALE_REQUEST_MS = PropertyReader.getLongProperty("readiness.stale.request.ms", 5000);
+    private static final long CHECK_INTERVAL_MS = 25;
+
+    // 📊 PER-PAGE SUMMARY: page URL pattern -> readiness timings
+    private static final Map<String, PageStats> summary = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong requestsSeen = new AtomicLong();
+    private volatile long lastActivityNanos = System.nanoTime();
+    private volatile String currentPage = "unknown";
+
+    private PageReadinessDetector() {
+    }
+
+    /**
+     * Subscribes the current thread's CDP session to network events. No-op without CDP.
+     */
+    public static void install(CdpSession session) {
+        current.remove();
+        if (session == null) {
+            return;
+        }
+        try {
+            PageReadinessDetector detector = new PageReadinessDetector();
+            session.enableNetwork();
+            session.on(Network.requestWillBeSent(), e -> {
+                if (e.getType().map(t -> t == ResourceType.DOCUMENT).orElse(false)) {
+                    detector.currentPage = LocatorCache.toPagePattern(e.getRequest().getUrl());
+                }
+                detector.requestsSeen.incrementAndGet();
+                detector.started(e.getRequestId().toString());
+            });
+            session.on(Network.loadingFinished(), e -> detector.finished(e.getRequestId().toString()));
+            session.on(Network.loadingFailed(), e -> detector.finished(e.getRequestId().toString()));
+            current.set(detector);
+        } catch (Exception e) {
+            log.warn("⚠️ READINESS_OFF: Network events unavailable ({}). Using readyState.", e.getMessage());
+        }
+    }
+
+    public static void uninstall() {
+        current.remove();
+    }
+
+    /**
+     * True when network-idle detection is active for this thread.
+     */
+    public static boolean isActive() {
+        return current.get() != null;
+    }
+
+    /**
+     * Blocks until the current thread's page has had no in-flight request for the quiet window.
+     *
+     * @return how long readiness took, in ms; -1 when detection is not active on this thread
+     */
+    public static long awaitNetworkIdle() {
+        PageReadinessDetector detector = current.get();
+        if (detector == null) {
+            return -1;
+        }
+        return detector.await(QUIET_MS, TIMEOUT_MS);
+    }
+
+    /**
+     * Milliseconds since the last request started or finished; -1 when not active.
+     */
+    public static long quietForMillis() {
+        PageReadinessDetector detector = current.get();
+        if (detector == null) {
+            return -1;
+        }
+        if (detector.activeRequests() > 0) {
+            return 0;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - detector.lastActivityNanos);
+    }
+
+    private long await(long quietMillis, long timeoutMillis) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        long quietNanos = TimeUnit.MILLISECONDS.toNanos(quietMillis);
+        long seenAtStart = requestsSeen.get();
+
+        while (true) {
+            long now = System.nanoTime();
+            if (activeRequests() == 0 && now - lastActivityNanos >= quietNanos) {
+                break;
+            }
+            if (now >= deadline) {
+                log.warn("⚠️ READINESS_TIMEOUT: [{}] still had {} request(s) in flight after {}ms.",
+                        currentPage, activeRequests(), timeoutMillis);
+                break;
+            }
+            try {
+                Thread.sleep(CHECK_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long requests = requestsSeen.get() - seenAtStart;
+        summary.computeIfAbsent(currentPage, k -> new PageStats()).record(elapsed);
+        log.info("🌐 READY: [{}] network-idle after {}ms ({} requests, quiet window {}ms).",
+                currentPage, elapsed, requests, quietMillis);
+        return elapsed;
+    }
+
+    private void started(String requestId) {
+        inFlight.put(requestId, System.nanoTime());
+        lastActivityNanos = System.nanoTime();
+    }
+
+    private void finished(String requestId) {
+        inFlight.remove(requestId);
+        lastActivityNanos = System.nanoTime();
+    }
+
+    private int activeRequests() {
+        long staleBefore = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(STALE_REQUEST_MS);
+        int active = 0;
+        for (Long startedAt : inFlight.values()) {
+            if (startedAt > staleBefore) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Run-wide "time to ready" per page pattern, for the logs and the Extent report.
+     */
+    public static String getSummary() {
+        StringBuilder sb = new StringBuilder();
+        new TreeMap<>(summary).forEach((page, stats) -> sb.append(page).append(": ").append(stats).append(" | "));
+        return sb.length() == 0 ? "no pages measured" : sb.substring(0, sb.length() - 3);
+    }
+
+    private static final class PageStats {
+        private long count;
+        private long totalMillis;
+        private long maxMillis;
+
+        private synchronized void record(long millis) {
+            count++;
+            totalMillis += millis;
+            maxMillis = Math.max(maxMillis, millis);
+        }
+
+        @Override
+        public synchronized String toString() {
+            return String.format("n=%d avg=%dms max=%dms", count, count == 0 ? 0 : totalMillis / count, maxMillis);
+        }
+    }
+}
@@ -41,4 +41,25 @@ public class PropertyReader {
     public static String getProperty(String key) {
         return prop.getProperty(key);
     }
+
+    /**
+     * Runtime tuning knobs: a '-Dkey=value' flag wins over the properties file,
+     * and the default kicks in when neither is set.
+     */
+    public static String getProperty(String key, String defaultValue) {
+        String value = System.getProperty(key, prop.getProperty(key));
+        return (value == null || value.isBlank()) ? defaultValue : value.trim();
+    }
+
+    public static int getIntProperty(String key, int defaultValue) {
+        return Integer.parseInt(getProperty(key, String.valueOf(defaultValue)));
+    }
+
+    public static long getLongProperty(String key, long defaultValue) {
+        return Long.parseLong(getProperty(key, String.valueOf(defaultValue)));
+    }
+
+    public static boolean getBooleanProperty(String key, boolean defaultValue) {
+        return Boolean.parseBoolean(getProperty(key, String.valueOf(defaultValue)));
+    }
 }
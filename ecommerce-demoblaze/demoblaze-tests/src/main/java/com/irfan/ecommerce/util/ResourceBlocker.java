@@ -0,0 +1,188 @@
+package com.irfan.ecommerce.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.devtools.v129.network.Network;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ResourceBlocker: Don't download what the test never looks at.
+ *
+ * 🚀 THE WALMART-SCALE "WHY":
+ * SITUATION: Every UI navigation pulled every product image, web font and third-party
+ *   script, and DemoBlaze pages are image-heavy. None of it is asserted on.
+ * ACTION: Named blocking profiles (block.profile.NAME.images / .fonts / .urls globs),
+ *   selected per suite with the TestNG 'block.profile' parameter and applied per test
+ *   through CDP Network.setBlockedURLs.
+ * RESULT: Lighter page loads, with per-test "requests / bytes avoided" to prove it.
+ *
+ * NOTE: A blocked request never downloads, so its size is estimated from a ledger of
+ *   sizes seen when the same URL loaded unblocked (this run or earlier runs). The ledger
+ *   sits next to the perf baseline in src/test/resources/perf, so mvn clean keeps it.
+ */
+public final class ResourceBlocker {
+    private static final Logger log = LogManager.getLogger(ResourceBlocker.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final ThreadLocal<ResourceBlocker> current = new ThreadLocal<>();
+
+    static final List<String> IMAGE_PATTERNS =
+            List.of("*.png*", "*.jpg*", "*.jpeg*", "*.gif*", "*.webp*", "*.svg*", "*.ico*");
+    static final List<String> FONT_PATTERNS = List.of("*.woff*", "*.ttf*", "*.otf*", "*.eot*");
+
+    // URL -> encoded bytes last seen for an unblocked load
+    private static final File ledgerFile =
+            new File(PropertyReader.getProperty("block.size.ledger.file", "src/test/resources/perf/resource-sizes.json"));
+    private static final Map<String, Long> sizeLedger = loadLedger();
+
+    // 📊 RUN TOTALS
+    private static final AtomicLong totalBlocked = new AtomicLong();
+    private static final AtomicLong totalBytesAvoided = new AtomicLong();
+
+    private final String profile;
+    private final Map<String, String> urlsByRequest = new ConcurrentHashMap<>();
+    private final AtomicLong blockedRequests = new AtomicLong();
+    private final AtomicLong bytesAvoided = new AtomicLong();
+    private final AtomicLong unknownSize = new AtomicLong();
+    // Set only when a non-empty block list was sent, so finish() knows to lift it
+    private CdpSession blockingSession;
+
+    private ResourceBlocker(String profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * Applies the named profile to the current thread's CDP session ("none" blocks nothing
+     * but still feeds the size ledger). No-op without CDP.
+     */
+    public static void apply(CdpSession session, String profileName) {
+        current.remove();
+        if (session == null) {
+            return;
+        }
+        String profile = profileName == null || profileName.isBlank() ? "none" : profileName.trim();
+        List<String> patterns = patternsFor(profile);
+        try {
+            ResourceBlocker blocker = new ResourceBlocker(profile);
+            session.enableNetwork();
+            session.on(Network.requestWillBeSent(), e ->
+                    blocker.urlsByRequest.put(e.getRequestId().toString(), e.getRequest().getUrl()));
+            session.on(Network.loadingFinished(), e -> {
+                String url = blocker.urlsByRequest.remove(e.getRequestId().toString());
+                if (url != null && e.getEncodedDataLength() != null) {
+                    sizeLedger.put(url, e.getEncodedDataLength().longValue());
+                }
+            });
+            session.on(Network.loadingFailed(), e -> {
+                String url = blocker.urlsByRequest.remove(e.getRequestId().toString());
+                if (e.getBlockedReason().isPresent()) {
+                    blocker.recordBlocked(url);
+                }
+            });
+            if (!patterns.isEmpty()) {
+                session.send(Network.setBlockedURLs(patterns));
+                blocker.blockingSession = session;
+                log.info("🚫 BLOCKING: Profile [{}] active with {} URL patterns.", profile, patterns.size());
+            }
+            current.set(blocker);
+        } catch (Exception e) {
+            log.warn("⚠️ BLOCKING_OFF: Could not apply profile [{}]: {}", profile, e.getMessage());
+        }
+    }
+
+    /**
+     * Ends the current thread's test: lifts its block list (a pooled browser must not carry
+     * it into the next test) and returns its "avoided" summary, or null when nothing was blocked.
+     */
+    public static String finish() {
+        ResourceBlocker blocker = current.get();
+        current.remove();
+        if (blocker != null && blocker.blockingSession != null) {
+            try {
+                blocker.blockingSession.send(Network.setBlockedURLs(List.of()));
+            } catch (Exception e) {
+                log.warn("⚠️ BLOCKING: Could not clear profile [{}] block list: {}", blocker.profile, e.getMessage());
+            }
+        }
+        if (blocker == null || blocker.blockedRequests.get() == 0) {
+            return null;
+        }
+        return String.format("🚫 RESOURCE_BLOCKING [%s]: %d requests avoided, ~%d KB saved%s",
+                blocker.profile, blocker.blockedRequests.get(), blocker.bytesAvoided.get() / 1024,
+                blocker.unknownSize.get() == 0 ? "" : " (" + blocker.unknownSize.get() + " of unknown size)");
+    }
+
+    static List<String> patternsFor(String profile) {
+        List<String> patterns = new ArrayList<>();
+        if ("none".equalsIgnoreCase(profile)) {
+            return patterns;
+        }
+        String prefix = "block.profile." + profile + ".";
+        if (PropertyReader.getBooleanProperty(prefix + "images", false)) {
+            patterns.addAll(IMAGE_PATTERNS);
+        }
+        if (PropertyReader.getBooleanProperty(prefix + "fonts", false)) {
+            patterns.addAll(FONT_PATTERNS);
+        }
+        String urls = PropertyReader.getProperty(prefix + "urls", "");
+        Arrays.stream(urls.split(",")).map(String::trim).filter(s -> !s.isEmpty()).forEach(patterns::add);
+        if (patterns.isEmpty()) {
+            log.warn("⚠️ BLOCKING: Profile [{}] is not defined (no {}* keys); nothing will be blocked.", profile, prefix);
+        }
+        return patterns;
+    }
+
+    private void recordBlocked(String url) {
+        blockedRequests.incrementAndGet();
+        totalBlocked.incrementAndGet();
+        Long size = url == null ? null : sizeLedger.get(url);
+        if (size == null) {
+            unknownSize.incrementAndGet();
+        } else {
+            bytesAvoided.addAndGet(size);
+            totalBytesAvoided.addAndGet(size);
+        }
+    }
+
+    public static String getStats() {
+        return String.format("requestsAvoided=%d bytesAvoided~%dKB knownSizes=%d",
+                totalBlocked.get(), totalBytesAvoided.get() / 1024, sizeLedger.size());
+    }
+
+    /**
+     * Saves the learned resource sizes so later blocked runs can estimate their savings.
+     */
+    public static synchronized void persistLedger() {
+        try {
+            File dir = ledgerFile.getAbsoluteFile().getParentFile();
+            if (dir != null && !dir.exists()) {
+                dir.mkdirs();
+            }
+            // Sorted and pretty-printed: the file is versioned, so keep its diffs readable
+            mapper.writerWithDefaultPrettyPrinter().writeValue(ledgerFile, new TreeMap<>(sizeLedger));
+        } catch (Exception e) {
+            log.error("❌ BLOCKING: Could not persist size ledger to {}: {}", ledgerFile.getPath(), e.getMessage());
+        }
+    }
+
+    private static Map<String, Long> loadLedger() {
+        Map<String, Long> ledger = new ConcurrentHashMap<>();
+        if (ledgerFile.exists()) {
+            try {
+                ledger.putAll(mapper.readValue(ledgerFile, new TypeReference<Map<String, Long>>() {}));
+            } catch (Exception e) {
+                log.warn("⚠️ BLOCKING: Ignoring unreadable size ledger {}: {}", ledgerFile.getPath(), e.getMessage());
+            }
+        }
+        return ledger;
+    }
+}
@@ -0,0 +1,306 @@
+package com.irfan.ecommerce.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.v129.page.Page;
+import org.openqa.selenium.devtools.v129.page.model.ScriptIdentifier;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ScriptRegistry: Ship our helper JavaScript to the browser once, then call it by name.
+ *
+ * 🚀 THE EMIRATES-SCALE "WHY":
+ * SITUATION: jsClick, the readyState probe and the CAPTCHA token injection re-sent
+ *   their script source on every call, and a "wait, scroll, click" took one WebDriver
+ *   round trip per step.
+ * ACTION: Every helper is pinned under window.__eqo. With CDP the bundle is registered
+ *   through Page.addScriptToEvaluateOnNewDocument, so every new document already has
+ *   it. Callers send only a tiny dispatcher plus the script name. When a page does not
+ *   have the bundle (no CDP, or a document that loaded before registration), it is
+ *   installed lazily and the call is retried once.
+ * RESULT: Hot helpers send a few dozen bytes per call, and composite scripts
+ *   (waitScrollClick) turn three round trips into one.
+ */
+public final class ScriptRegistry {
+    private static final Logger log = LogManager.getLogger(ScriptRegistry.class);
+    private static final String MISSING = "__eqo_missing__";
+    private static final ThreadLocal<ScriptIdentifier> registration = new ThreadLocal<>();
+    private static final ThreadLocal<Integer> lastTrips = new ThreadLocal<>();
+
+    // name -> function source; every function may use visible()/find() from the locator lib
+    private static final Map<String, String> scripts = new LinkedHashMap<>();
+
+    static {
+        scripts.put("readyState", "function () { return document.readyState; }");
+        // [domContentLoadedMs, loadMs, transferBytes, requestCount] for the current document
+        scripts.put("navTiming",
+                "function () { var nav = performance.getEntriesByType('navigation')[0];"
+                + " if (!nav) return null;"
+                + " var res = performance.getEntriesByType('resource'), bytes = nav.transferSize || 0;"
+                + " for (var i = 0; i < res.length; i++) bytes += res[i].transferSize || 0;"
+                + " return [nav.domContentLoadedEventEnd - nav.startTime, Math.max(nav.loadEventEnd - nav.startTime, 0),"
+                + " bytes, res.length + 1]; }");
+        scripts.put("setInnerHtml",
+                "function (id, html) { var el = document.getElementById(id); if (!el) return false;"
+                + " el.innerHTML = html; return true; }");
+        // Composite: [specs, timeoutMs, requireUncovered, done] -> done(true) or done(reason). A forced
+        // click (requireUncovered=false) takes any visible match, even disabled or pointer-events:none
+        scripts.put("waitScrollClick",
+                "function (specs, timeout, requireUncovered, done) {"
+                + "  var start = Date.now();"
+                + "  function pick() {"
+                + "    for (var i = 0; i < specs.length; i++) {"
+                + "      var list;"
+                + "      try { list = find(specs[i][0], specs[i][1]); } catch (e) { continue; }"
+                + "      for (var j = 0; j < list.length; j++) {"
+                + "        var el = list[j];"
+                + "        if (visible(el) && (!requireUncovered"
+                + "            || (!el.disabled && window.getComputedStyle(el).pointerEvents !== 'none'))) return el;"
+                + "      }"
+                + "    }"
+                + "    return null;"
+                + "  }"
+                + "  function attempt() {"
+                + "    var el = pick(), why = requireUncovered ? 'no visible, enabled match' : 'no visible match';"
+                + "    if (el) {"
+                + "      el.scrollIntoView({block: 'center', inline: 'center'});"
+                + "      var r = el.getBoundingClientRect();"
+                + "      var top = document.elementFromPoint(r.left + r.width / 2, r.top + r.height / 2);"
+                + "      if (!requireUncovered || (top && (top === el || el.contains(top)))) { el.click(); done(true); return; }"
+                + "      why = 'covered by <' + (top ? top.tagName.toLowerCase() : 'nothing') + '>';"
+                + "    }"
+                + "    if (Date.now() - start >= timeout) { done(why); return; }"
+                + "    setTimeout(attempt, 50);"
+                + "  }"
+                + "  attempt();"
+                + "}");
+        // Composite: [fieldSpecs[], values[], submitSpecs|null, timeoutMs, done]. Waits for every
+        // field, sets each value through the native setter + input/change events (so framework
+        // listeners see a real edit), then clicks submit: done(true) or done(reason). The submit
+        // click runs after done() so an alert it raises cannot fail the script call itself
+        scripts.put("fillForm",
+                "function (fields, values, submit, timeout, done) {"
+                + "  var start = Date.now();"
+                + "  function first(specs) {"
+                + "    for (var i = 0; i < specs.length; i++) {"
+                + "      var list;"
+                + "      try { list = find(specs[i][0], specs[i][1]); } catch (e) { continue; }"
+                + "      for (var j = 0; j < list.length; j++) { if (visible(list[j]) && !list[j].disabled) return list[j]; }"
+                + "    }"
+                + "    return null;"
+                + "  }"
+                + "  function setValue(el, v) {"
+                + "    var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype"
+                + "        : el instanceof HTMLSelectElement ? HTMLSelectElement.prototype : HTMLInputElement.prototype;"
+                + "    el.focus();"
+                + "    Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, v);"
+                + "    el.dispatchEvent(new Event('input', {bubbles: true}));"
+                + "    el.dispatchEvent(new Event('change', {bubbles: true}));"
+                + "    el.blur();"
+                + "  }"
+                + "  function attempt() {"
+                + "    var els = [], missing = -1;"
+                + "    for (var i = 0; i < fields.length; i++) {"
+                + "      var el = first(fields[i]);"
+                + "      if (!el) { missing = i; break; }"
+                + "      els.push(el);"
+                + "    }"
+                + "    var button = missing < 0 && submit ? first(submit) : null;"
+                + "    if (missing < 0 && (!submit || button)) {"
+                + "      for (var k = 0; k < els.length; k++) setValue(els[k], values[k]);"
+                + "      done(true);"
+                + "      if (button) setTimeout(function () { button.click(); }, 0);"
+                + "      return;"
+                + "    }"
+                + "    if (Date.now() - start >= timeout) {"
+                + "      done(missing < 0 ? 'submit target not clickable' : 'field #' + (missing + 1) + ' not visible'); return;"
+                + "    }"
+                + "    setTimeout(attempt, 50);"
+                + "  }"
+                + "  attempt();"
+                + "}");
+    }
+
+    private static final String BODY = buildBody();
+    private static final String VERSION = Integer.toHexString(BODY.hashCode());
+    private static final String BOOTSTRAP =
+            "(function () { if (window.__eqo && window.__eqo.v === '" + VERSION + "') return;"
+            + BODY.replace("%VERSION%", VERSION) + "})();";
+
+    // arguments: [version, name, ...args]
+    private static final String CALL_JS =
+            "var n = window.__eqo; return n && n.v === arguments[0] ? n.run(arguments) : '" + MISSING + "';";
+    private static final String CALL_ASYNC_JS =
+            "var n = window.__eqo; if (n && n.v === arguments[0]) n.run(arguments);"
+            + " else arguments[arguments.length - 1]('" + MISSING + "');";
+
+    // 📊 REGISTRY METRICS
+    private static final AtomicLong calls = new AtomicLong();
+    private static final AtomicLong lazyInstalls = new AtomicLong();
+    private static final AtomicLong bytesSaved = new AtomicLong();
+
+    private ScriptRegistry() {
+        throw new IllegalStateException("Utility class - instantiation is not allowed.");
+    }
+
+    /**
+     * Pins the bundle into every document the current test's tab loads (and the current one).
+     * Without CDP the registry still works, installing lazily per document.
+     */
+    public static void install(CdpSession session) {
+        registration.remove();
+        if (session == null) {
+            return;
+        }
+        try {
+            session.enable("Page", Page.enable());
+            registration.set(session.send(Page.addScriptToEvaluateOnNewDocument(
+                    BOOTSTRAP, Optional.empty(), Optional.empty(), Optional.of(true))));
+        } catch (Exception e) {
+            log.warn("⚠️ SCRIPT_REGISTRY: Could not pin scripts via CDP ({}). Installing lazily.", e.getMessage());
+        }
+    }
+
+    /**
+     * Removes this test's registration so pooled browsers do not accumulate copies.
+     */
+    public static void uninstall() {
+        ScriptIdentifier id = registration.get();
+        registration.remove();
+        CdpSession session = CdpSession.current();
+        if (id != null && session != null) {
+            try {
+                session.send(Page.removeScriptToEvaluateOnNewDocument(id));
+            } catch (Exception e) {
+                log.debug("Script registration cleanup failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Runs a pinned script synchronously and returns its result.
+     */
+    public static Object call(WebDriver driver, String name, Object... args) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        Object[] callArgs = callArgs(name, args);
+        int trips = 1;
+        Object result = js.executeScript(CALL_JS, callArgs);
+        if (MISSING.equals(result)) {
+            installNow(js);
+            result = js.executeScript(CALL_JS, callArgs);
+            trips += 2;
+        }
+        record(name, trips);
+        return result;
+    }
+
+    /**
+     * Runs a pinned script that reports through the async callback (its last parameter).
+     *
+     * @param timeoutMillis how long the script itself may take; the session's script
+     *                      timeout is raised to cover it
+     */
+    public static Object callAsync(WebDriver driver, String name, long timeoutMillis, Object... args) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        DomWaitEngine.ensureScriptTimeout(driver, timeoutMillis + 2000);
+        Object[] callArgs = callArgs(name, args);
+        int trips = 1;
+        Object result = js.executeAsyncScript(CALL_ASYNC_JS, callArgs);
+        if (MISSING.equals(result)) {
+            installNow(js);
+            result = js.executeAsyncScript(CALL_ASYNC_JS, callArgs);
+            trips += 2;
+        }
+        record(name, trips);
+        return result;
+    }
+
+    /**
+     * Composite wait + scroll-into-view + click in ONE round trip.
+     *
+     * @param requireUncovered true to only click once nothing overlays the element's centre
+     *                         (like a real click); false to force it like jsClick
+     * @return null on success, otherwise why the click could not happen in time
+     */
+    public static String waitScrollClick(WebDriver driver, String[] locators, long timeoutMillis,
+                                         boolean requireUncovered, String... replacements) {
+        Object result = callAsync(driver, "waitScrollClick", timeoutMillis,
+                SmartLocatorResolver.toSpecs(locators, replacements), timeoutMillis, requireUncovered);
+        return Boolean.TRUE.equals(result) ? null : String.valueOf(result);
+    }
+
+    /**
+     * Composite form fill: waits for every field (ObjectRepo locators, in map order), sets
+     * the values with real input/change events and clicks the submit target (may be null).
+     *
+     * @return null on success, otherwise which field or button never became usable
+     */
+    public static String fillForm(WebDriver driver, Map<String[], String> fields, String[] submit, long timeoutMillis) {
+        List<Object> fieldSpecs = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        fields.forEach((locators, value) -> {
+            fieldSpecs.add(SmartLocatorResolver.toSpecs(locators));
+            values.add(value);
+        });
+        Object result = callAsync(driver, "fillForm", timeoutMillis, fieldSpecs, values,
+                submit == null ? null : SmartLocatorResolver.toSpecs(submit), timeoutMillis);
+        return Boolean.TRUE.equals(result) ? null : String.valueOf(result);
+    }
+
+    /**
+     * WebDriver round trips spent by this thread's last registry call (3 when it had to
+     * install the bundle first).
+     */
+    public static int lastRoundTrips() {
+        Integer trips = lastTrips.get();
+        return trips == null ? 0 : trips;
+    }
+
+    public static String getStats() {
+        return String.format("calls=%d lazyInstalls=%d payloadSaved~%dKB",
+                calls.get(), lazyInstalls.get(), bytesSaved.get() / 1024);
+    }
+
+    private static void installNow(JavascriptExecutor js) {
+        lazyInstalls.incrementAndGet();
+        js.executeScript(BOOTSTRAP);
+    }
+
+    private static Object[] callArgs(String name, Object... args) {
+        Object[] callArgs = new Object[args.length + 2];
+        callArgs[0] = VERSION;
+        callArgs[1] = name;
+        System.arraycopy(args, 0, callArgs, 2, args.length);
+        return callArgs;
+    }
+
+    private static void record(String name, int trips) {
+        calls.incrementAndGet();
+        lastTrips.set(trips);
+        // What the call would have cost shipping the function (and the locator lib) inline
+        String source = scripts.get(name);
+        bytesSaved.addAndGet(Math.max(0, source.length()
+                + (source.contains("find(") ? SmartLocatorResolver.LOCATOR_LIB.length() : 0)
+                - CALL_JS.length()));
+    }
+
+    /**
+     * Locator lib + every registered function; '%VERSION%' is filled in from this text's own hash.
+     */
+    private static String buildBody() {
+        StringBuilder body = new StringBuilder(SmartLocatorResolver.LOCATOR_LIB).append("var fns = {};");
+        scripts.forEach((name, source) -> body.append("fns['").append(name).append("'] = ").append(source).append(';'));
+        return body
+                .append("window.__eqo = { v: '%VERSION%', fns: fns,")
+                .append("  run: function (a) { return fns[a[1]].apply(null, Array.prototype.slice.call(a, 2)); } };")
+                .toString();
+    }
+}
@@ -0,0 +1,164 @@
+package com.irfan.ecommerce.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SmartLocatorResolver: All backup locators checked in ONE browser round trip.
+ *
+ * THE WALMART HEADACHE I FIXED:
+ * - THE PROBLEM: findElementSmartly() gave every locator its own 2s wait, so a broken
+ *   primary cost a full timeout before the backup was even tried.
+ * - WHAT I DID: One injected script per polling tick evaluates the whole priority list
+ *   (id/css/xpath/name/class/linkText) and hands back the first visible match.
+ * - THE RESULT: A dead primary now costs one poll interval instead of 2 seconds.
+ */
+public final class SmartLocatorResolver {
+    private static final Logger log = LogManager.getLogger(SmartLocatorResolver.class);
+    private static final long POLL_MS = PropertyReader.getLongProperty("locator.poll.ms", 100);
+
+    /**
+     * Shared in-page helpers: visible(el) mirrors Selenium's rule of thumb (rendered box,
+     * not display:none / visibility:hidden), find(strategy, value) mirrors parseBy().
+     */
+    static final String LOCATOR_LIB =
+            "function visible(el) {"
+            + "  if (!el || !el.getBoundingClientRect) return false;"
+            + "  var r = el.getBoundingClientRect(), s = window.getComputedStyle(el);"
+            + "  return r.width > 0 && r.height > 0 && s.visibility !== 'hidden' && s.display !== 'none' && s.opacity !== '0';"
+            + "}"
+            + "function find(st, v) {"
+            + "  switch (st) {"
+            + "    case 'id': return document.querySelectorAll('[id=\"' + v.replace(/\"/g, '\\\\\"') + '\"]');"
+            + "    case 'css': return document.querySelectorAll(v);"
+            + "    case 'name': return document.getElementsByName(v);"
+            + "    case 'class': return document.getElementsByClassName(v);"
+            + "    case 'text': return Array.prototype.filter.call(document.getElementsByTagName('a'),"
+            + "        function (a) { return (a.innerText || a.textContent || '').trim() === v; });"
+            + "    default:"
+            + "      var snap = document.evaluate(v, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), out = [];"
+            + "      for (var k = 0; k < snap.snapshotLength; k++) out.push(snap.snapshotItem(k));"
+            + "      return out;"
+            + "  }"
+            + "}";
+
+    /**
+     * Returns [index, element] for the first spec (in priority order) with a visible match, or null.
+     */
+    static final String LOCATE_JS =
+            "var specs = arguments[0];"
+            + LOCATOR_LIB
+            + "for (var i = 0; i < specs.length; i++) {"
+            + "  try {"
+            + "    var list = find(specs[i][0], specs[i][1]);"
+            + "    for (var j = 0; j < list.length; j++) { if (visible(list[j])) return [i, list[j]]; }"
+            + "  } catch (e) { /* invalid selector for this strategy: try the next one */ }"
+            + "}"
+            + "return null;";
+
+    private SmartLocatorResolver() {
+        throw new IllegalStateException("Utility class - instantiation is not allowed.");
+    }
+
+    /**
+     * Splits "strategy:value" (after %s replacement) into {strategy, value}.
+     * Anything without a known prefix keeps the legacy rules: '//' or '(' is XPath, else an ID.
+     */
+    static String[] toSpec(String locator, String... replacements) {
+        String processed = (replacements.length > 0) ? String.format(locator, (Object[]) replacements) : locator;
+        if (processed.contains(":")) {
+            String[] parts = processed.split(":", 2);
+            String strategy = parts[0].toLowerCase().trim();
+            switch (strategy) {
+                case "id", "xpath", "css", "name", "class", "text":
+                    return new String[]{strategy, parts[1].trim()};
+                default:
+                    return new String[]{"xpath", processed};
+            }
+        }
+        return (processed.startsWith("//") || processed.startsWith("("))
+                ? new String[]{"xpath", processed} : new String[]{"id", processed};
+    }
+
+    static List<List<String>> toSpecs(String[] locators, String... replacements) {
+        List<List<String>> specs = new ArrayList<>();
+        for (String locator : locators) {
+            specs.add(List.of(toSpec(locator, replacements)));
+        }
+        return specs;
+    }
+
+    static By toBy(String[] spec) {
+        String value = spec[1];
+        return switch (spec[0]) {
+            case "id" -> By.id(value);
+            case "css" -> By.cssSelector(value);
+            case "name" -> By.name(value);
+            case "class" -> By.className(value);
+            case "text" -> By.linkText(value);
+            default -> By.xpath(value);
+        };
+    }
+
+    /**
+     * Polls the whole priority list until one locator has a visible match or the budget runs out.
+     *
+     * @return the first visible match, or null on timeout
+     * @throws UnsupportedOperationException when the script could never be evaluated
+     *         (non-JS driver, CSP...), so the caller can fall back to per-locator waits
+     */
+    public static WebElement resolve(WebDriver driver, String[] locators, long timeoutMillis, String... replacements) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            throw new UnsupportedOperationException("Driver cannot execute JavaScript");
+        }
+        List<List<String>> specs = toSpecs(locators, replacements);
+
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        boolean evaluatedOnce = false;
+        WebDriverException lastError = null;
+        int ticks = 0;
+
+        do {
+            ticks++;
+            try {
+                Object result = js.executeScript(LOCATE_JS, specs);
+                evaluatedOnce = true;
+                if (result instanceof List && ((List<?>) result).size() == 2) {
+                    List<?> match = (List<?>) result;
+                    int index = ((Number) match.get(0)).intValue();
+                    if (index > 0) {
+                        log.warn("🩹 HEALED: [{}] dead, matched backup [{}] on tick {}", locators[0], locators[index], ticks);
+                    }
+                    return (WebElement) match.get(1);
+                }
+            } catch (WebDriverException e) {
+                // Page mid-navigation or script blocked; retry on the next tick
+                lastError = e;
+            }
+            sleep(POLL_MS);
+        } while (System.currentTimeMillis() < deadline && !Thread.currentThread().isInterrupted());
+
+        if (!evaluatedOnce) {
+            throw new UnsupportedOperationException("Locator script never evaluated: "
+                    + (lastError == null ? "unknown" : lastError.getMessage()));
+        }
+        return null;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.irfan.ecommerce.api.tests.demoblaze;
 
+import com.irfan.ecommerce.api.clients.ApiClientRegistry;
 import com.irfan.ecommerce.api.clients.demoblaze.AuthClient;
 import com.irfan.ecommerce.api.clients.demoblaze.CartClient;
 import org.apache.logging.log4j.LogManager;
@@ -12,8 +13,8 @@ import static org.testng.Assert.*;
 public class ApiValidationTest extends com.irfan.ecommerce.ui.base.BaseTest {
      private static final Logger logger = LogManager.getLogger(ApiValidationTest.class);
     
-    AuthClient authClient = new AuthClient();
-    CartClient cartClient = new CartClient();
+    AuthClient authClient = ApiClientRegistry.get(AuthClient.class);
+    CartClient cartClient = ApiClientRegistry.get(CartClient.class);
     
     @Test(description = "API Login → Token Extraction → Walmart-scale Auth")
     public void testApiLogin() {
@@ -1,5 +1,6 @@
 package com.irfan.ecommerce.api.tests.demoblaze;
 
+import com.irfan.ecommerce.api.clients.ApiClientRegistry;
 import com.irfan.ecommerce.api.clients.demoblaze.AuthClient;
 import com.irfan.ecommerce.api.payloads.demoblaze.AddToCartRequest;
 import com.irfan.ecommerce.ui.base.BaseTest;
@@ -17,7 +18,7 @@ public class IdempotencyTest extends BaseTest {
         // 🚀 Now 'logger' is inherited from BaseTest (no red lines)
         logger.info("🛡️ IDEMPOTENCY: Commencing double-tap validation.");
         
-        AuthClient authClient = new AuthClient();
+        AuthClient authClient = ApiClientRegistry.get(AuthClient.class);
         String user = PropertyReader.getProperty("test.username");
         String pass = PropertyReader.getProperty("test.password");
         String token = authClient.getAuthToken(user, pass);
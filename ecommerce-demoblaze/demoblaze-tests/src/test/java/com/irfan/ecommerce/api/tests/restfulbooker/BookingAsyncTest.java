@@ -0,0 +1,88 @@
+package com.irfan.ecommerce.api.tests.restfulbooker;
+
+import com.irfan.ecommerce.api.clients.ApiClientRegistry;
+import com.irfan.ecommerce.api.clients.AsyncCombinators;
+import com.irfan.ecommerce.api.clients.AsyncResponse;
+import com.irfan.ecommerce.api.clients.restfulbooker.AsyncBookingClient;
+import com.irfan.ecommerce.api.managers.restfulbooker.AuthManager;
+import com.irfan.ecommerce.api.payloads.restfulbooker.BookingRequest;
+import com.irfan.ecommerce.api.payloads.restfulbooker.BookingResponse;
+import com.irfan.ecommerce.util.DataGenerator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * BookingAsyncTest: Fan-out through the async tier from a single test thread.
+ * Bounded in-flight count keeps the public sandbox below its 429 threshold.
+ */
+public class BookingAsyncTest {
+    private static final Logger logger = LogManager.getLogger(BookingAsyncTest.class);
+    private final AsyncBookingClient client = ApiClientRegistry.getAsync(AsyncBookingClient.class);
+
+    private static final int BOOKINGS = 20;
+    private static final int MAX_IN_FLIGHT = 10;
+
+    @Test(description = "Create, verify and delete a batch of bookings without a thread per request")
+    public void testAsyncFanOutLifecycle() {
+        List<BookingRequest> payloads = IntStream.range(0, BOOKINGS)
+                .mapToObj(i -> DataGenerator.createFakeBooking())
+                .collect(Collectors.toList());
+
+        List<CompletableFuture<AsyncResponse<BookingResponse>>> creates =
+                AsyncCombinators.fanOut(payloads, MAX_IN_FLIGHT, client::createBooking);
+        try {
+            List<AsyncResponse<BookingResponse>> created =
+                    AsyncCombinators.join(AsyncCombinators.allOf(creates, Duration.ofSeconds(60)));
+
+            Assert.assertEquals(createdIds(creates).size(), BOOKINGS, "Every async create should succeed");
+            for (int i = 0; i < BOOKINGS; i++) {
+                Assert.assertEquals(created.get(i).getBody().getBooking().getFirstname(),
+                        payloads.get(i).getFirstname(), "Results must stay in input order");
+            }
+            logger.info("✅ ASYNC: {} bookings created, slowest {}ms.", created.size(),
+                    created.stream().mapToLong(AsyncResponse::getElapsedMillis).max().orElse(0));
+        } finally {
+            deleteCreated(creates);
+        }
+    }
+
+    /**
+     * Ids of every create that finished successfully, whatever happened to the others.
+     */
+    private static List<Integer> createdIds(List<CompletableFuture<AsyncResponse<BookingResponse>>> creates) {
+        return creates.stream()
+                .filter(f -> f.isDone() && !f.isCompletedExceptionally())
+                .map(CompletableFuture::join)
+                .filter(AsyncResponse::isSuccessful)
+                .map(r -> r.getBody().getBookingId())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Best-effort cleanup: logs instead of throwing, so it never hides the test's own failure.
+     */
+    private void deleteCreated(List<CompletableFuture<AsyncResponse<BookingResponse>>> creates) {
+        List<Integer> ids = createdIds(creates);
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            String token = AuthManager.getToken();
+            long deleted = AsyncCombinators.fanOut(ids, MAX_IN_FLIGHT, id -> client.deleteBooking(id, token)).stream()
+                    .map(f -> f.handle((r, e) -> e == null && r.getStatusCode() == 201).join())
+                    .filter(Boolean::booleanValue)
+                    .count();
+            logger.info("🗑️ Cleanup: Deleted {}/{} async bookings", deleted, ids.size());
+        } catch (RuntimeException e) {
+            logger.warn("⚠️ Cleanup: Could not delete async bookings {}: {}", ids, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.irfan.ecommerce.api.tests.restfulbooker;
+
+import com.irfan.ecommerce.api.clients.ApiClientRegistry;
+import com.irfan.ecommerce.api.clients.BulkResult;
+import com.irfan.ecommerce.api.clients.restfulbooker.BookingClient;
+import com.irfan.ecommerce.api.managers.restfulbooker.AuthManager;
+import com.irfan.ecommerce.api.payloads.restfulbooker.BookingRequest;
+import com.irfan.ecommerce.util.DataGenerator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * BookingBulkTest: Fixture setup at the fastest rate the sandbox tolerates.
+ * The token bucket (booker.api.rate.limit.*) and concurrency cap
+ * (booker.api.max.concurrency) replace hand-tuned thread counts.
+ */
+public class BookingBulkTest {
+    private static final Logger logger = LogManager.getLogger(BookingBulkTest.class);
+    private final BookingClient bookingClient = ApiClientRegistry.get(BookingClient.class);
+
+    private static final int BOOKINGS = 15;
+
+    @Test(description = "createAll -> updateAll -> deleteAll with per-item results and throughput")
+    public void testBulkLifecycle() {
+        List<BookingRequest> payloads = IntStream.range(0, BOOKINGS)
+                .mapToObj(i -> DataGenerator.createFakeBooking())
+                .collect(Collectors.toList());
+        List<Integer> ids = List.of();
+        try {
+            BulkResult<BookingRequest, Integer> created = bookingClient.createAll(payloads);
+            ids = created.getValues();
+            Assert.assertTrue(created.isAllSuccessful(), "Failed creates: " + created.getFailed().size());
+            Assert.assertEquals(ids.size(), BOOKINGS);
+            Assert.assertTrue(created.getThroughputPerSecond() > 0);
+            logger.info("🚀 BULK create throughput: {} ops/s", String.format("%.1f", created.getThroughputPerSecond()));
+
+            String token = AuthManager.getToken();
+            Map<Integer, BookingRequest> updates = new LinkedHashMap<>();
+            for (int i = 0; i < ids.size(); i++) {
+                BookingRequest update = payloads.get(i);
+                update.setAdditionalneeds("Bulk-Updated");
+                updates.put(ids.get(i), update);
+            }
+            BulkResult<Map.Entry<Integer, BookingRequest>, Integer> updated = bookingClient.updateAll(updates, token);
+            Assert.assertTrue(updated.isAllSuccessful(), "Failed updates: " + updated.getFailed().size());
+            Assert.assertEquals(updated.getValues(), ids, "Per-item results must stay in input order");
+        } finally {
+            if (!ids.isEmpty()) {
+                BulkResult<Integer, Integer> deleted = bookingClient.deleteAll(ids, AuthManager.getToken());
+                logger.info("🗑️ Cleanup: {}", deleted);
+            }
+        }
+    }
+}
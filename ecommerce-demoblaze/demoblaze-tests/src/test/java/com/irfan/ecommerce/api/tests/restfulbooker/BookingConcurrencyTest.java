@@ -1,5 +1,6 @@
 package com.irfan.ecommerce.api.tests.restfulbooker;
 
+import com.irfan.ecommerce.api.clients.ApiClientRegistry;
 import com.irfan.ecommerce.api.clients.restfulbooker.BookingClient;
 import com.irfan.ecommerce.util.DataGenerator;
 import org.testng.annotations.Test;
@@ -20,7 +21,7 @@ import java.util.concurrent.TimeUnit;
  */
 public class BookingConcurrencyTest {
 
-    private final BookingClient client = new BookingClient();
+    private final BookingClient client = ApiClientRegistry.get(BookingClient.class);
     
     // 🎯 Optimized for Public Sandbox Stability while maintaining Architectural Integrity
     private final int THREAD_COUNT = 20; 
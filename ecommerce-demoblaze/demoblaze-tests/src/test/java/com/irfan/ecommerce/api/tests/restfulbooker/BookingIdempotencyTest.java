@@ -1,5 +1,6 @@
 package com.irfan.ecommerce.api.tests.restfulbooker;
 
+import com.irfan.ecommerce.api.clients.ApiClientRegistry;
 import com.irfan.ecommerce.api.clients.restfulbooker.BookingClient;
 import com.irfan.ecommerce.api.payloads.restfulbooker.BookingRequest;
 import com.irfan.ecommerce.util.DataGenerator;
@@ -11,7 +12,7 @@ import java.util.UUID;
 
 public class BookingIdempotencyTest {
     private static final Logger logger = LogManager.getLogger(BookingIdempotencyTest.class);
-    private final BookingClient bookingClient = new BookingClient();
+    private final BookingClient bookingClient = ApiClientRegistry.get(BookingClient.class);
 
     @Test
     public void testCreateBookingIdempotency() {
@@ -1,5 +1,6 @@
 package com.irfan.ecommerce.api.tests.restfulbooker;
 
+import com.irfan.ecommerce.api.clients.ApiClientRegistry;
 import com.irfan.ecommerce.api.clients.restfulbooker.BookingClient;
 import com.irfan.ecommerce.api.managers.restfulbooker.AuthManager;
 import com.irfan.ecommerce.util.DataGenerator;
@@ -11,7 +12,7 @@ import java.util.Map;
 
 public class BookingPatchTest {
     // 2026-02-27: Maintaining walmart comment - Partial Update Validation
-    BookingClient bookingClient = new BookingClient();
+    BookingClient bookingClient = ApiClientRegistry.get(BookingClient.class);
 
     @Test
     public void testPartialUpdateBooking() {
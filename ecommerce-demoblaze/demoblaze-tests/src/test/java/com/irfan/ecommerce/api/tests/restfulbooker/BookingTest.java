@@ -1,5 +1,6 @@
 package com.irfan.ecommerce.api.tests.restfulbooker;
 
+import com.irfan.ecommerce.api.clients.ApiClientRegistry;
 import com.irfan.ecommerce.api.clients.restfulbooker.BookingClient;
 import com.irfan.ecommerce.api.managers.restfulbooker.AuthManager;
 import com.irfan.ecommerce.api.payloads.restfulbooker.BookingRequest;
@@ -13,7 +14,7 @@ import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInC
 
 public class BookingTest {
     private static final Logger logger = LogManager.getLogger(BookingTest.class);
-    BookingClient bookingClient = new BookingClient();
+    BookingClient bookingClient = ApiClientRegistry.get(BookingClient.class);
     /**
      * THE WALMART RESUME REF: "Implemented a 'Full-Lifecycle' API Validation 
      * engine to ensure environment state purity in CI/CD."
@@ -5,10 +5,10 @@ import org.apache.logging.log4j.Logger;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import com.irfan.ecommerce.ui.base.BaseTest;
+import com.irfan.ecommerce.ui.base.SeedCart;
 import com.irfan.ecommerce.ui.pages.ProductPage;
 import com.irfan.ecommerce.ui.pages.CartPage;
 import com.irfan.ecommerce.util.GenericActions;
-import com.irfan.ecommerce.util.ObjectRepo;
 
 /**
  * CartWorkflowTest: Validates the End-to-End "Add to Cart" funnel.
@@ -41,12 +41,25 @@ public class CartWorkflowTest extends BaseTest {
 
         // Navigate to Cart using Global Header
         logger.info("ACTION: Navigating to Cart Page.");
-        GenericActions.click(ObjectRepo.NAV_CART);
-
-        CartPage cartPage = new CartPage(getDriver());
+        CartPage cartPage = new CartPage(getDriver()).openViaNav();
         boolean isPresent = cartPage.isProductInCart(product);
 
         Assert.assertTrue(isPresent, "CRITICAL: Product disappeared from Cart! Session loss detected.");
         logger.info("SPLUNK_MONITOR: Cart Persistence Check - PASSED.");
     }
+
+    @SeedCart(productIds = {1, 3})
+    @Test(description = "API-seeded cart: both products render in the cart table, no UI arrangement.")
+    public void testSeededCartRendersAllLines() {
+        logger.info("SPLUNK_MONITOR: Cart seeded via API with product ids {}", seededCart.productIds());
+
+        CartPage cartPage = new CartPage(getDriver()).open();
+
+        int seededLines = seededCart.productIds().size();
+        Assert.assertEquals(cartPage.getCartRows(seededLines).size(), seededLines,
+                "CRITICAL: Cart line count differs from what was seeded via API!");
+        Assert.assertTrue(cartPage.isProductInCart("Samsung galaxy s6"), "Seeded product id 1 missing from cart.");
+        Assert.assertTrue(cartPage.isProductInCart("Nexus 6"), "Seeded product id 3 missing from cart.");
+        logger.info("SPLUNK_MONITOR: Seeded Cart Check - PASSED.");
+    }
 }
@@ -2,9 +2,12 @@ package com.irfan.ecommerce.ui.tests;
 
 import com.irfan.ecommerce.ui.base.BaseTest;
 import com.irfan.ecommerce.ui.pages.HomePage;
+import com.irfan.ecommerce.ui.pages.HomePage.ProductCard;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.List;
+
 public class HomePageTest extends BaseTest {
 
     @Test(description = "Verify HomePage loads correctly and displays categories")
@@ -33,4 +36,20 @@ public class HomePageTest extends BaseTest {
         
         // Add more assertions here as you build out ProductPage
     }
-}
\ No newline at end of file
+
+    @Test(description = "Verify product grid and category sidebar render via one-shot DOM snapshots")
+    public void verifyProductGridSnapshot() {
+        HomePage homePage = new HomePage(getDriver());
+        homePage.open();
+
+        List<String> categories = homePage.getCategoryNames();
+        Assert.assertEquals(categories, List.of("Phones", "Laptops", "Monitors"), "Category sidebar mismatch!");
+
+        List<ProductCard> cards = homePage.getProductCards();
+        Assert.assertFalse(cards.isEmpty(), "Product grid is empty!");
+        for (ProductCard card : cards) {
+            Assert.assertTrue(card.price().startsWith("$"), "Price missing for " + card.name());
+            Assert.assertTrue(card.link().contains("prod.html?idp_="), "Deep link missing for " + card.name());
+        }
+    }
+}
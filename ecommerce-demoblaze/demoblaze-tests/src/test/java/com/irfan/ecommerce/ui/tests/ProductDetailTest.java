@@ -18,14 +18,9 @@ public class ProductDetailTest extends BaseTest {
     public void testProductPricingAndDescription() {
         logger.info("SPLUNK_MONITOR: Starting PDP Integrity Check for 'Samsung galaxy s6'.");
         
-        homePage.open();
-        
-        // 1. Navigate to Product using the Dynamic Locator logic in ObjectRepo
-        logger.info("ACTION: Clicking on 'Samsung galaxy s6' link.");
-        homePage.clickProductByName("Samsung galaxy s6");
-        
-        // 2. Initialize ProductPage (Now utilizing GenericActions/ObjectRepo internally)
-        ProductPage productPage = new ProductPage(driver);
+        // 1-2. Deep link straight to the PDP (id resolved from the catalog API index)
+        logger.info("ACTION: Opening 'Samsung galaxy s6' by deep link.");
+        ProductPage productPage = new ProductPage(driver).open("Samsung galaxy s6");
         
         // 3. Validate Price (Walmart-scale logic: handles microservice latency/formatting)
         String actualPrice = productPage.getProductPrice();
@@ -4,11 +4,31 @@ import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 
+import com.irfan.ecommerce.api.clients.ApiClientRegistry;
+import com.irfan.ecommerce.api.clients.AsyncBaseApiClient;
+import com.irfan.ecommerce.api.clients.CircuitBreaker;
+import com.irfan.ecommerce.api.clients.HttpTransport;
+import com.irfan.ecommerce.api.clients.TokenBucketRateLimiter;
+import com.irfan.ecommerce.ui.base.BasePage;
+import com.irfan.ecommerce.ui.base.DriverFactory;
+import com.irfan.ecommerce.ui.base.SessionSnapshotStore;
 import org.testng.IRetryAnalyzer;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 /**
  * Listeners: The framework's Observability Controller.
  * 
@@ -22,10 +42,13 @@ import org.testng.ITestResult;
  * 
  * @author Irfan Muneer (Quality Architect)
  */
-public class Listeners implements ITestListener {
+public class Listeners implements ITestListener, ISuiteListener {
     // Ensuring we use the Thread-Safe Instance from our ExtentManager
     private static ExtentReports extent = ExtentManager.getInstance();
     private static ThreadLocal<ExtentTest> test = new ThreadLocal<>();
+    // 📸 Screenshots still being written by EvidenceWriter; attached just before each flush
+    private static final Queue<PendingEvidence> pendingEvidence = new ConcurrentLinkedQueue<>();
+    private static final long EVIDENCE_FLUSH_WAIT_MS = 10000;
 
      /**
      * 🛰️ THREAD-SAFE REPORT BRIDGE
@@ -76,20 +99,117 @@ public class Listeners implements ITestListener {
             currentTest.log(Status.FAIL, "Root Cause Stack Trace: " + result.getThrowable());
 
             try {
-                String screenshotPath = GenericActions.takeScreenshot(result.getName());
-                currentTest.addScreenCaptureFromPath(screenshotPath);
+                // Capture now, write in the background: the next test does not wait on disk I/O
+                pendingEvidence.add(new PendingEvidence(currentTest, GenericActions.captureScreenshot(result.getName())));
             } catch (Exception e) {
                 currentTest.warning("System was unable to capture forensic screenshot: " + e.getMessage());
             }
+
+            // 📦 NETWORK EVIDENCE: HAR of this thread's browser traffic (BaseTest.teardown may have written it already)
+            Object harPath = result.getAttribute(NetworkRecorder.HAR_ATTRIBUTE);
+            if (harPath == null) {
+                harPath = NetworkRecorder.exportHar(result.getName());
+                if (harPath != null) {
+                    result.setAttribute(NetworkRecorder.HAR_ATTRIBUTE, harPath);
+                }
+            }
+            if (harPath != null) {
+                currentTest.info("📦 Network capture (HAR): <a href='" + harPath + "'>" + result.getName() + ".har</a>");
+            }
         }
     }
 
     public void onFinish(ITestContext context) {
        if (extent != null) {
+            attachPendingEvidence(false);
             extent.flush();
         }
         test.remove();
     }
 
+    /**
+     * 📊 SUITE-END TELEMETRY: Publishes run-wide infrastructure metrics
+     * (browser pool efficiency, locator cache hit-rate, wait latency, pinned-script
+     * reuse, form-fill round trips, time-to-network-idle per page, page timing
+     * percentiles, browser memory and the tests retaining the most, dialog answers,
+     * session reuse, API client initializations, circuit breaker states, HTTP pool
+     * and async request usage, rate-limiter throttling, resources avoided by blocking
+     * profiles, screenshot evidence volume) into the dashboard header, and saves the
+     * learned locator ordering and page performance baseline for the next run.
+     */
+    public void onFinish(ISuite suite) {
+        extent.setSystemInfo("Driver Pool", DriverFactory.getPoolStats().toString());
+        LocatorCache.persist();
+        extent.setSystemInfo("Locator Cache", LocatorCache.getStats());
+        extent.setSystemInfo("DOM Waits", DomWaitEngine.getStats());
+        extent.setSystemInfo("Pinned Scripts", ScriptRegistry.getStats());
+        extent.setSystemInfo("Form Fills", BasePage.getFormFillStats());
+        extent.setSystemInfo("Page Readiness", PageReadinessDetector.getSummary());
+        PagePerformanceMonitor.persistBaseline();
+        extent.setSystemInfo("Page Performance", PagePerformanceMonitor.getSummary());
+        extent.setSystemInfo("Browser Memory", MemoryLeakMonitor.getStats());
+        extent.setSystemInfo("Top Retained Memory", MemoryLeakMonitor.getSummary());
+        extent.setSystemInfo("Dialogs", DialogWatcher.getStats());
+        extent.setSystemInfo("Session Snapshots", SessionSnapshotStore.getStats());
+        extent.setSystemInfo("API Clients", ApiClientRegistry.getStats());
+        extent.setSystemInfo("Circuit Breakers", CircuitBreaker.getSummary());
+        extent.setSystemInfo("HTTP Pools", HttpTransport.getStats());
+        extent.setSystemInfo("Async API", AsyncBaseApiClient.getStats());
+        extent.setSystemInfo("Rate Limiters", TokenBucketRateLimiter.getSummary());
+        ResourceBlocker.persistLedger();
+        extent.setSystemInfo("Resource Blocking", ResourceBlocker.getStats());
+        attachPendingEvidence(true);
+        extent.setSystemInfo("Evidence", EvidenceWriter.getStats());
+        extent.flush();
+    }
+
+    /**
+     * Attaches every screenshot the writer thread has finished. ExtentTest is not
+     * thread-safe, so attachment happens here on the flushing thread, never on the writer.
+     * A write still running is waited for (within one shared budget), not reported as a
+     * failed capture. Between test classes one that is still running stays queued for
+     * the next flush; only the suite-end flush gives up on it.
+     */
+    private static synchronized void attachPendingEvidence(boolean suiteEnd) {
+        long deadline = System.currentTimeMillis() + EVIDENCE_FLUSH_WAIT_MS;
+        EvidenceWriter.awaitIdle(EVIDENCE_FLUSH_WAIT_MS);
+        List<PendingEvidence> stillWriting = new ArrayList<>();
+        PendingEvidence evidence;
+        while ((evidence = pendingEvidence.poll()) != null) {
+            try {
+                long remaining = Math.max(0, deadline - System.currentTimeMillis());
+                String path = evidence.path.get(remaining, TimeUnit.MILLISECONDS);
+                if (path == null || path.isEmpty()) {
+                    evidence.test.warning("System was unable to capture forensic screenshot.");
+                } else {
+                    evidence.test.addScreenCaptureFromPath(path);
+                }
+            } catch (TimeoutException e) {
+                if (suiteEnd) {
+                    evidence.test.warning("Forensic screenshot was still being written when the report closed.");
+                } else {
+                    stillWriting.add(evidence);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stillWriting.add(evidence);
+                break;
+            } catch (ExecutionException | CancellationException e) {
+                evidence.test.warning("System was unable to capture forensic screenshot: " + e.getMessage());
+            }
+        }
+        pendingEvidence.addAll(stillWriting);
+    }
+
+    private static final class PendingEvidence {
+        private final ExtentTest test;
+        private final CompletableFuture<String> path;
+
+        private PendingEvidence(ExtentTest test, CompletableFuture<String> path) {
+            this.test = test;
+            this.path = path;
+        }
+    }
+
     
 }